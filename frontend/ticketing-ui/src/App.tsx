@@ -11,6 +11,26 @@ type SeatChangedEvent = {
     occurredAt?: string;
 };
 
+// event: seats (서버에서 coalesce window 동안 모은 변경 묶음)
+type SeatDelta = {
+    seatNo: string;
+    type: string;
+    reserved: boolean;
+};
+
+type SeatDeltaFrame = {
+    scheduleId: number;
+    changes: SeatDelta[];
+};
+
+// event: offer (좌석 대기열 차례 -> expiresAt 까지 나만 hold 가능)
+type SeatOffer = {
+    scheduleId: number;
+    seatNo: string;
+    userId: number;
+    expiresAt: number;
+};
+
 type SseStatus = "CONNECTING" | "OPEN" | "ERROR" | "CLOSED";
 
 function getSeatNo(s: SeatLike): string {
@@ -108,6 +128,26 @@ export default function App() {
         );
     }
 
+    // 여러 좌석 변경을 한 번의 setSeats 로 반영 (렌더 1회)
+    function applySeatChanges(changes: SeatDelta[]) {
+        const byNo = new Map<string, boolean>();
+        for (const c of changes) {
+            const no = normalizeSeatNo(c.seatNo ?? "");
+            if (!no) continue;
+            byNo.set(no, normalizeReserved({ ...c, scheduleId, seatNo: no } as SeatChangedEvent));
+        }
+        if (byNo.size === 0) return;
+
+        setSeats((prev) =>
+            prev.map((s) => {
+                const no = normalizeSeatNo(getSeatNo(s));
+                const reserved = byNo.get(no);
+                if (reserved === undefined) return s;
+                return setReserved(s, reserved);
+            })
+        );
+    }
+
     // ✅ 최초 로딩 + scheduleId 바뀔 때마다 새로고침
     useEffect(() => {
         refresh();
@@ -116,56 +156,118 @@ export default function App() {
 
     // ✅ SSE 연결 (scheduleId 변경 시 재연결)
     useEffect(() => {
-        const url = `/api/seats/stream?scheduleId=${scheduleId}`;
-
-        setSseStatus("CONNECTING");
-        const es = new EventSource(url);
-
+        let es: EventSource | null = null;
+        let stopped = false;
         let refreshTimer: number | null = null;
+        let reconnectTimer: number | null = null;
+
+        // 브라우저가 재연결을 포기한 뒤(503 등) 직접 다시 붙을 때 넘길 마지막 seq
+        let lastEventId: string | null = null;
 
         // 안전 폴링(정합성 보정용): 너무 자주 말고 15초 권장
         const safetyInterval = window.setInterval(() => {
             refresh();
         }, 15000);
 
-        es.addEventListener("seat", (ev: MessageEvent) => {
-            try {
-                const data: SeatChangedEvent = JSON.parse(ev.data);
-                if (Number(data.scheduleId) !== Number(scheduleId)) return;
-                applySeatChange(data);
-            } catch {
-                // ignore
-            }
-        });
+        function trackId(ev: MessageEvent) {
+            if (ev.lastEventId) lastEventId = ev.lastEventId;
+        }
 
-        es.addEventListener("ping", () => {});
-        es.addEventListener("hello", () => {});
+        function connect() {
+            const base = `/api/seats/stream?scheduleId=${scheduleId}&userId=${userId}`;
+            const url = lastEventId
+                ? `${base}&lastEventId=${encodeURIComponent(lastEventId)}`
+                : base;
+
+            setSseStatus("CONNECTING");
+            const source = new EventSource(url);
+            es = source;
+
+            source.addEventListener("seat", (ev: MessageEvent) => {
+                trackId(ev);
+                try {
+                    const data: SeatChangedEvent = JSON.parse(ev.data);
+                    if (Number(data.scheduleId) !== Number(scheduleId)) return;
+                    applySeatChange(data);
+                } catch {
+                    // ignore
+                }
+            });
 
-        es.onopen = () => {
-            setSseStatus("OPEN");
-            // 연결 복구 직후 1회 refresh 하고 싶으면 주석 해제
-            // refresh();
-        };
+            source.addEventListener("seats", (ev: MessageEvent) => {
+                trackId(ev);
+                try {
+                    const data: SeatDeltaFrame = JSON.parse(ev.data);
+                    if (Number(data.scheduleId) !== Number(scheduleId)) return;
+                    applySeatChanges(Array.isArray(data.changes) ? data.changes : []);
+                } catch {
+                    // ignore
+                }
+            });
 
-        es.onerror = () => {
-            setSseStatus("ERROR");
-            // 끊김/재연결 과정에서 onerror 연속 호출될 수 있음 -> 1회만 refresh 예약
-            if (refreshTimer == null) {
-                refreshTimer = window.setTimeout(() => {
-                    refresh();
-                    refreshTimer = null;
-                }, 300);
-            }
-        };
+            // 서버 replay buffer 범위 밖에서 재연결된 경우에만 전체 재조회
+            source.addEventListener("resync", () => {
+                refresh();
+            });
+
+            // 대기 중이던 좌석이 해제되어 내 차례가 됨
+            source.addEventListener("offer", (ev: MessageEvent) => {
+                try {
+                    const data: SeatOffer = JSON.parse(ev.data);
+                    if (Number(data.scheduleId) !== Number(scheduleId)) return;
+                    const seconds = Math.max(0, Math.round((data.expiresAt - Date.now()) / 1000));
+                    if (window.confirm(`대기하던 좌석 ${data.seatNo} 차례입니다. ${seconds}초 안에 선점할까요?`)) {
+                        hold(data.seatNo);
+                    }
+                } catch {
+                    // ignore
+                }
+            });
+
+            source.addEventListener("ping", () => {});
+            source.addEventListener("hello", () => {});
+
+            source.onopen = () => {
+                setSseStatus("OPEN");
+            };
+
+            source.onerror = () => {
+                setSseStatus("ERROR");
+                // 자동 재연결(CONNECTING)은 Last-Event-ID 로 놓친 변경만 replay 받음 -> refresh 불필요
+                if (source.readyState !== EventSource.CLOSED || stopped) return;
+
+                // 브라우저가 재연결을 포기한 경우(503 연결 예산 초과 등) -> jitter 두고 직접 재연결
+                // 재연결 시 lastEventId 를 넘기므로 놓친 변경은 replay/resync 로 처리됨
+                if (reconnectTimer == null) {
+                    const delay = 3000 + Math.floor(Math.random() * 5000);
+                    reconnectTimer = window.setTimeout(() => {
+                        reconnectTimer = null;
+                        if (!stopped) connect();
+                    }, delay);
+                }
+
+                // 재연결 전까지 화면이 너무 오래 틀어지지 않게 1회 refresh 예약
+                if (refreshTimer == null) {
+                    refreshTimer = window.setTimeout(() => {
+                        refresh();
+                        refreshTimer = null;
+                    }, 300);
+                }
+            };
+        }
+
+        connect();
 
         return () => {
+            stopped = true;
             setSseStatus("CLOSED");
             if (refreshTimer != null) window.clearTimeout(refreshTimer);
+            if (reconnectTimer != null) window.clearTimeout(reconnectTimer);
             window.clearInterval(safetyInterval);
-            es.close();
+            es?.close();
         };
         // eslint-disable-next-line react-hooks/exhaustive-deps
-    }, [scheduleId]);
+    }, [scheduleId, userId]);
 
     async function hold(seatNo: string) {
         const body = { scheduleId, seatNo, userId };
@@ -208,6 +310,28 @@ export default function App() {
         }
     }
 
+    async function joinWaitlist(seatNo: string) {
+        const body = { scheduleId, seatNo, userId };
+
+        try {
+            const res = await fetch(`/api/seats/waitlist`, {
+                method: "POST",
+                headers: { "Content-Type": "application/json" },
+                body: JSON.stringify(body),
+            });
+
+            if (!res.ok) {
+                const text = await res.text();
+                alert(`대기 등록 실패: ${res.status}\n${text}`);
+                return;
+            }
+            const data = await res.json();
+            alert(`${seatNo} 대기 등록 (앞에 ${data.position}명)`);
+        } catch (e: any) {
+            alert(`대기 등록 네트워크 오류: ${e?.message ?? e}`);
+        }
+    }
+
     return (
         <div style={{ padding: 16 }}>
             <h2>Ticketing UI</h2>
@@ -260,6 +384,12 @@ export default function App() {
                         <button
                             key={`${seatNo}-${idx}`}
                             onClick={() => (reserved ? release(seatNo) : hold(seatNo))}
+                            onContextMenu={(e) => {
+                                // 우클릭: 선점된 좌석 대기 등록
+                                if (!reserved) return;
+                                e.preventDefault();
+                                joinWaitlist(seatNo);
+                            }}
                             style={{
                                 padding: "10px 6px",
                                 borderRadius: 8,
@@ -268,7 +398,7 @@ export default function App() {
                                 color: reserved ? "white" : "black",
                                 cursor: "pointer",
                             }}
-                            title={reserved ? "release" : "hold"}
+                            title={reserved ? "release (우클릭: 대기 등록)" : "hold"}
                         >
                             {seatNo}
                         </button>
@@ -44,5 +44,5 @@ export default function () {
         JSON.stringify({ scheduleId, seatNo, userId }),
         { headers: { "Content-Type": "application/json" } }
     );
-    check(confirmRes, { "confirm 200": (r) => r.status === 200 });
+    check(confirmRes, { "confirm 202": (r) => r.status === 202 });
 }
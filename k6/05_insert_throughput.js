@@ -0,0 +1,53 @@
+import http from "k6/http";
+import { check } from "k6";
+import exec from "k6/execution";
+import { Counter, Trend } from "k6/metrics";
+
+// reservation INSERT 처리량 측정용
+// - 좌석마다 1번씩만 hold (충돌 없이 순수 INSERT 경로만 측정)
+// - bypassQueue=true 로 대기열 영향 제거
+// - ID 전략 변경(IDENTITY -> Snowflake) 전/후로 같은 조건에서 돌리고 hold_insert_ms, iterations/s 비교
+// - 실행 후 scripts/index-size.ps1 로 인덱스 크기 비교
+export const options = {
+    scenarios: {
+        insert_throughput: {
+            executor: "shared-iterations",
+            vus: __ENV.VUS ? Number(__ENV.VUS) : 50,
+            iterations: __ENV.ITERATIONS ? Number(__ENV.ITERATIONS) : 5000,
+            maxDuration: __ENV.MAX_DURATION || "5m",
+        },
+    },
+    thresholds: {
+        http_req_failed: ["rate<0.01"],
+    },
+};
+
+const BASE = __ENV.BASE || "http://localhost:8080";
+const SID = __ENV.SID ? Number(__ENV.SID) : 3;
+const SEAT_FROM = __ENV.SEAT_FROM ? Number(__ENV.SEAT_FROM) : 1;
+const UID_BASE = __ENV.UID_BASE ? Number(__ENV.UID_BASE) : 500000;
+
+const tInsert = new Trend("hold_insert_ms");
+const cHold200 = new Counter("hold_200");
+const cHoldEtc = new Counter("hold_other");
+
+const JSON_HEADERS = { "Content-Type": "application/json" };
+
+export default function () {
+    // 전체 iteration 번호로 좌석/유저를 1:1 매핑 (ITERATIONS <= 좌석 수로 맞출 것)
+    const n = exec.scenario.iterationInTest;
+    const seatId = SEAT_FROM + n;
+    const userId = UID_BASE + n;
+
+    const res = http.post(
+        `${BASE}/api/reservations/hold`,
+        JSON.stringify({ scheduleId: SID, seatId, userId, bypassQueue: true }),
+        { headers: JSON_HEADERS }
+    );
+
+    tInsert.add(res.timings.duration);
+    if (res.status === 200) cHold200.add(1);
+    else cHoldEtc.add(1);
+
+    check(res, { "hold 200": (r) => r.status === 200 });
+}
@@ -0,0 +1,41 @@
+$ErrorActionPreference = "Stop"
+
+# ID 전략 변경 전/후 테이블·인덱스 크기 비교용
+# - k6/05_insert_throughput.js 실행 직후 돌려서 before/after 값을 기록
+# - ANALYZE 로 통계 갱신 후 innodb_index_stats(size, n_leaf_pages) 조회
+
+try { [Console]::OutputEncoding = [System.Text.Encoding]::UTF8 } catch {}
+
+$tables = "'reservation','outbox_event','payment_order'"
+
+function Db-Query([string]$sql){
+  docker compose exec -T -e MYSQL_PWD=root mysql mysql -uroot -D ticketing -t -e "$sql"
+  if ($LASTEXITCODE -ne 0) { throw "DB 조회 실패" }
+}
+
+Db-Query "ANALYZE TABLE reservation, outbox_event, payment_order;" | Out-Null
+
+Write-Host "== table size ==" -ForegroundColor Cyan
+Db-Query @"
+SELECT table_name,
+       table_rows,
+       ROUND(data_length  / 1024 / 1024, 2) AS data_mb,
+       ROUND(index_length / 1024 / 1024, 2) AS index_mb
+  FROM information_schema.tables
+ WHERE table_schema = 'ticketing'
+   AND table_name IN ($tables);
+"@
+
+Write-Host "== index pages (size / leaf pages) ==" -ForegroundColor Cyan
+Db-Query @"
+SELECT s.table_name,
+       s.index_name,
+       MAX(CASE WHEN s.stat_name = 'size'         THEN s.stat_value END) AS size_pages,
+       MAX(CASE WHEN s.stat_name = 'n_leaf_pages' THEN s.stat_value END) AS leaf_pages,
+       ROUND(MAX(CASE WHEN s.stat_name = 'size' THEN s.stat_value END) * @@innodb_page_size / 1024 / 1024, 2) AS size_mb
+  FROM mysql.innodb_index_stats s
+ WHERE s.database_name = 'ticketing'
+   AND s.table_name IN ($tables)
+ GROUP BY s.table_name, s.index_name
+ ORDER BY s.table_name, s.index_name;
+"@
@@ -0,0 +1,70 @@
+package com.len.ticketing.application.confirm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * confirm 이벤트 JSON vs binary 인코딩 비교 (./gradlew jmh)
+ *
+ * - encode: outbox insert 직전 (요청 스레드)
+ * - decode: consumer 배치 파싱
+ * setup 에서 두 포맷의 payload 크기를 출력 (outbox row / Kafka record 크기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfirmRequestedCodecBenchmark {
+
+    private ConfirmRequestedCodec codec;
+    private ConfirmRequestedPayload payload;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setup() {
+        // Boot 기본 ObjectMapper 와 같은 설정 (Instant -> ISO-8601 문자열)
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        codec = new ConfirmRequestedCodec(mapper);
+        payload = new ConfirmRequestedPayload(
+                UUID.randomUUID().toString(), 1_234L, "A-17", 987_654L, Instant.now()
+        );
+        json = codec.encodeJson(payload).getBytes(StandardCharsets.UTF_8);
+        binary = codec.encodeBinary(payload);
+        System.out.printf("%n[payload size] json=%d bytes, binary=%d bytes%n", json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return codec.encodeJson(payload).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return codec.encodeBinary(payload);
+    }
+
+    @Benchmark
+    public ConfirmRequestedPayload decodeJson() {
+        return codec.decode(json);
+    }
+
+    @Benchmark
+    public ConfirmRequestedPayload decodeBinary() {
+        return codec.decode(binary);
+    }
+}
@@ -1,51 +1,65 @@
 package com.len.ticketing.api.concert;
 
-import com.len.ticketing.api.concert.dto.ConcertResponse;
-import com.len.ticketing.api.concert.dto.ScheduleResponse;
-import com.len.ticketing.api.concert.dto.SeatResponse;
-import com.len.ticketing.infra.concert.ConcertJpaRepository;
-import com.len.ticketing.infra.concert.ScheduleJpaRepository;
-import com.len.ticketing.infra.concert.SeatJpaRepository;
+import com.len.ticketing.application.concert.CatalogQueryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
-
+/**
+ * 카탈로그 조회는 CatalogQueryService 캐시에 있는 직렬화된 JSON bytes 를 그대로 씀
+ * (body 타입은 각각 List<ConcertResponse> / List<ScheduleResponse> / List<SeatResponse>)
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
 public class ConcertController {
-    private final ConcertJpaRepository concertRepository;
-    private final ScheduleJpaRepository scheduleRepository;
-    private final SeatJpaRepository seatRepository;
+
+    private static final String NEXT_AFTER_ID_HEADER = "X-Next-After-Id";
+
+    private final CatalogQueryService catalogQueryService;
 
     // 1) 공연 목록
+    // size 없으면 전체, 있으면 keyset 페이지: GET /api/concerts?afterId=120&size=50 -> 다음 페이지는 X-Next-After-Id
     @GetMapping("/concerts")
-    public List<ConcertResponse> getConcerts() {
-        return concertRepository.findAll()
-                .stream()
-                .map(ConcertResponse::from)
-                .toList();
+    public ResponseEntity<byte[]> getConcerts(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
+    ) {
+        return json(catalogQueryService.concerts(afterId, size), request);
     }
 
     // 2) 공연 회차 목록
     @GetMapping("/concerts/{concertId}/schedules")
-    public List<ScheduleResponse> getSchedules(@PathVariable Long concertId) {
-        return scheduleRepository.findByConcert_IdOrderByShowAtAsc(concertId)
-                .stream()
-                .map(ScheduleResponse::from)
-                .toList();
+    public ResponseEntity<byte[]> getSchedules(@PathVariable Long concertId, WebRequest request) {
+        return json(catalogQueryService.schedules(concertId), request);
     }
 
     // 3) 회차별 좌석 목록
     @GetMapping("/schedules/{scheduleId}/seats")
-    public List<SeatResponse> getSeats(@PathVariable Long scheduleId) {
-        return seatRepository.findBySchedule_IdOrderBySeatNoAsc(scheduleId)
-                .stream()
-                .map(SeatResponse::from)
-                .toList();
+    public ResponseEntity<byte[]> getSeats(@PathVariable Long scheduleId, WebRequest request) {
+        return json(catalogQueryService.seats(scheduleId), request);
+    }
+
+    private ResponseEntity<byte[]> json(CatalogQueryService.CachedBody body, WebRequest request) {
+        if (request.checkNotModified(body.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(body.etag()).build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(body.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (body.nextAfterId() != null) {
+            builder.header(NEXT_AFTER_ID_HEADER, String.valueOf(body.nextAfterId()));
+        }
+        return builder.body(body.json());
     }
 }
@@ -1,10 +1,18 @@
 package com.len.ticketing.api.seat;
 
+import com.len.ticketing.api.seat.dto.SeatLayoutResponse;
+import com.len.ticketing.api.seat.dto.SeatMapDeltaResponse;
 import com.len.ticketing.api.seat.dto.SeatStatusResponse;
-import com.len.ticketing.application.seat.SeatQueryService;
+import com.len.ticketing.application.seat.SeatMapSnapshotCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -12,15 +20,22 @@ import java.util.List;
 @RequestMapping("/api/seats")
 public class SeatController {
 
-    private final SeatQueryService seatQueryService;
+    private static final String VERSION_HEADER = "X-Seat-Map-Version";
+    private static final String LAYOUT_VERSION_HEADER = "X-Seat-Layout-Version";
+    private static final String SEAT_COUNT_HEADER = "X-Seat-Count";
+
+    private final SeatMapSnapshotCache seatMapSnapshotCache;
 
     /**
      * 특정 스케줄의 전체 좌석 상태 조회
      * GET /api/seats?scheduleId=1
+     *
+     * ETag = 스냅샷 버전 -> If-None-Match 가 같으면 304 (body 없음)
      */
     @GetMapping
-    public List<SeatStatusResponse> getSeatStatus(@RequestParam Long scheduleId) {
-        return seatQueryService.getSeatStatus(scheduleId);
+    public ResponseEntity<List<SeatStatusResponse>> getSeatStatus(@RequestParam Long scheduleId, WebRequest request) {
+        var snapshot = seatMapSnapshotCache.all(scheduleId);
+        return conditional(snapshot, request);
     }
 
     /**
@@ -28,9 +43,91 @@ public class SeatController {
      * GET /api/seats/available?scheduleId=1
      */
     @GetMapping("/available")
-    public List<SeatStatusResponse> getAvailableSeats(@RequestParam Long scheduleId) {
-        return seatQueryService.getSeatStatus(scheduleId).stream()
-                .filter(seat -> !seat.reserved())
-                .toList();
+    public ResponseEntity<List<SeatStatusResponse>> getAvailableSeats(@RequestParam Long scheduleId, WebRequest request) {
+        var snapshot = seatMapSnapshotCache.available(scheduleId);
+        return conditional(snapshot, request);
+    }
+
+    /**
+     * 폴링 클라이언트용 delta
+     * GET /api/seats/delta?scheduleId=1&sinceVersion=123
+     * - sinceVersion 이후 바뀐 좌석만 (full=false), 변경 로그 범위 밖이면 전체 (full=true)
+     */
+    @GetMapping("/delta")
+    public ResponseEntity<SeatMapDeltaResponse> getSeatDelta(
+            @RequestParam Long scheduleId,
+            @RequestParam long sinceVersion,
+            WebRequest request
+    ) {
+        var delta = seatMapSnapshotCache.since(scheduleId, sinceVersion);
+        if (request.checkNotModified(delta.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(delta.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(delta.etag())
+                .cacheControl(CacheControl.noCache())
+                .header(VERSION_HEADER, String.valueOf(delta.version()))
+                .body(new SeatMapDeltaResponse(delta.version(), delta.full(), delta.seats()));
+    }
+
+    /**
+     * 대형 공연장용 compact 포맷 1) 정적 layout (좌석 id/번호/가격 컬럼 배열)
+     * GET /api/seats/layout?scheduleId=1&v={layoutVersion}
+     * - v 가 현재 layoutVersion 과 같으면 내용이 바뀌지 않음 -> immutable 로 1년 캐시 (CDN/브라우저)
+     * - v 없이 부르면 ETag(layoutVersion) + no-cache -> 클라이언트는 응답의 layoutVersion 으로 v 를 붙여 재조회
+     */
+    @GetMapping("/layout")
+    public ResponseEntity<SeatLayoutResponse> getSeatLayout(
+            @RequestParam Long scheduleId,
+            @RequestParam(required = false) String v,
+            WebRequest request
+    ) {
+        SeatLayoutResponse layout = seatMapSnapshotCache.layout(scheduleId);
+        String etag = "\"" + layout.layoutVersion() + "\"";
+        CacheControl cacheControl = layout.layoutVersion().equals(v)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                : CacheControl.noCache();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .header(LAYOUT_VERSION_HEADER, layout.layoutVersion())
+                .body(layout);
+    }
+
+    /**
+     * 대형 공연장용 compact 포맷 2) 점유 bitmap
+     * GET /api/seats/bitmap?scheduleId=1
+     * - application/octet-stream, layout 순서 index i 가 점유면 bit i = 1 (byte i>>3, LSB first)
+     * - 좌석 1개당 1bit -> 5만석도 6.25KB (JSON 전체 조회 대비 수백 배 작음)
+     * - X-Seat-Layout-Version 이 가지고 있는 layout 과 다르면 layout 부터 다시 받아야 함
+     */
+    @GetMapping(value = "/bitmap", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getSeatBitmap(@RequestParam Long scheduleId, WebRequest request) {
+        var bitmap = seatMapSnapshotCache.bitmap(scheduleId);
+        if (request.checkNotModified(bitmap.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(bitmap.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(bitmap.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(VERSION_HEADER, String.valueOf(bitmap.version()))
+                .header(LAYOUT_VERSION_HEADER, bitmap.layoutVersion())
+                .header(SEAT_COUNT_HEADER, String.valueOf(bitmap.seatCount()))
+                .body(bitmap.reservedBits());
+    }
+
+    private ResponseEntity<List<SeatStatusResponse>> conditional(SeatMapSnapshotCache.Snapshot snapshot, WebRequest request) {
+        if (request.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .header(VERSION_HEADER, String.valueOf(snapshot.version()))
+                .body(snapshot.seats());
     }
 }
@@ -1,22 +1,64 @@
 package com.len.ticketing.api.seat;
 
+import com.len.ticketing.common.exception.BusinessException;
+import com.len.ticketing.common.exception.ErrorCode;
 import com.len.ticketing.infra.sse.SeatSseHub;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 @RestController
 @RequestMapping("/api/seats")
 public class SeatSseController {
 
     private final SeatSseHub hub;
 
+    @Value("${ticketing.sse.retry-after-seconds:5}")
+    private int retryAfterSeconds;
+
     public SeatSseController(SeatSseHub hub) {
         this.hub = hub;
     }
 
+    /**
+     * userId 를 주면 그 사용자 대상 event: offer (좌석 대기열) 도 같이 받음
+     * 재연결 시 브라우저 EventSource 가 Last-Event-ID 헤더를 자동으로 보냄
+     * (수동 재연결용으로 ?lastEventId= 도 허용)
+     *
+     * 연결 예산 초과 시 body 없이 503 + Retry-After (jitter 포함 -> 재시도 분산)
+     */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter stream(@RequestParam long scheduleId) {
-        return hub.subscribe(scheduleId); // ✅ 여기만 수정
+    public ResponseEntity<SseEmitter> stream(
+            @RequestParam long scheduleId,
+            @RequestParam(required = false) Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam
+    ) {
+        try {
+            return ResponseEntity.ok(
+                    hub.subscribe(scheduleId, userId, parseSeq(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam))
+            );
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != ErrorCode.SSE_CAPACITY_EXCEEDED) throw e;
+            int retryAfter = retryAfterSeconds + ThreadLocalRandom.current().nextInt(retryAfterSeconds + 1);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .build();
+        }
+    }
+
+    private Long parseSeq(String v) {
+        if (v == null || v.isBlank()) return null;
+        try {
+            return Long.parseLong(v.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,48 @@
+package com.len.ticketing.api.seat;
+
+import com.len.ticketing.api.seat.dto.SeatWaitlistRequest;
+import com.len.ticketing.api.seat.dto.SeatWaitlistResponse;
+import com.len.ticketing.application.ticket.SeatWaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/seats/waitlist")
+public class SeatWaitlistController {
+
+    private final SeatWaitlistService seatWaitlistService;
+
+    /**
+     * 선점된 좌석 대기 등록 (대기열 통과 pass 필요, hold 와 같은 queueToken)
+     * POST /api/seats/waitlist {"scheduleId":1,"seatNo":"A1","userId":1001,"queueToken":"..."}
+     * 또는 Header X-QUEUE-TOKEN
+     *
+     * 좌석이 해제되면 순서대로 SSE event: offer 로 알림
+     * (/api/seats/stream?scheduleId=1&userId=1001 로 구독 중이어야 받음)
+     */
+    @PostMapping
+    public SeatWaitlistResponse join(
+            @RequestBody SeatWaitlistRequest req,
+            @RequestHeader(name = "X-QUEUE-TOKEN", required = false) String headerQueueToken
+    ) {
+        String queueToken = req.queueToken() == null || req.queueToken().isBlank() ? headerQueueToken : req.queueToken();
+        long position = seatWaitlistService.join(req.scheduleId(), req.seatNo(), req.userId(), queueToken);
+        return new SeatWaitlistResponse(position);
+    }
+
+    /**
+     * 대기 취소
+     * DELETE /api/seats/waitlist?scheduleId=1&seatNo=A1&userId=1001
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> leave(
+            @RequestParam Long scheduleId,
+            @RequestParam String seatNo,
+            @RequestParam Long userId
+    ) {
+        seatWaitlistService.leave(scheduleId, seatNo, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.len.ticketing.api.seat.dto;
+
+/**
+ * 좌석 정적 layout (컬럼 배열) -> index i 가 bitmap 의 bit i 와 대응
+ * layoutVersion 이 같으면 내용도 같음 -> 클라이언트/CDN 에서 영구 캐시 가능
+ */
+public record SeatLayoutResponse(
+        Long scheduleId,
+        String layoutVersion,
+        long[] seatIds,
+        String[] seatNos,
+        int[] prices
+) {
+}
@@ -0,0 +1,13 @@
+package com.len.ticketing.api.seat.dto;
+
+import java.util.List;
+
+/**
+ * full=false 면 seats 는 sinceVersion 이후 바뀐 좌석만, full=true 면 전체 좌석 (delta 불가 -> 통째로 교체)
+ */
+public record SeatMapDeltaResponse(
+        long version,
+        boolean full,
+        List<SeatStatusResponse> seats
+) {
+}
@@ -0,0 +1,8 @@
+package com.len.ticketing.api.seat.dto;
+
+public record SeatWaitlistRequest(
+        Long scheduleId,
+        String seatNo,
+        Long userId,
+        String queueToken
+) {}
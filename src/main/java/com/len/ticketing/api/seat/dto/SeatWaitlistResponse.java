@@ -0,0 +1,8 @@
+package com.len.ticketing.api.seat.dto;
+
+/**
+ * position: 0-based 대기 순번 (0 이면 다음 해제 때 offer 대상)
+ */
+public record SeatWaitlistResponse(
+        long position
+) {}
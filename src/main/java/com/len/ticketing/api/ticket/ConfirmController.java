@@ -0,0 +1,94 @@
+package com.len.ticketing.api.ticket;
+
+import com.len.ticketing.api.ticket.dto.ConfirmAcceptedResponse;
+import com.len.ticketing.api.ticket.dto.ConfirmResultResponse;
+import com.len.ticketing.api.ticket.dto.ConfirmSeatRequest;
+import com.len.ticketing.application.confirm.ConfirmCommandService;
+import com.len.ticketing.application.confirm.ConfirmResultService;
+import com.len.ticketing.common.exception.BusinessException;
+import com.len.ticketing.common.exception.ErrorCode;
+import com.len.ticketing.domain.outbox.ConfirmResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tickets/confirm")
+public class ConfirmController {
+
+    private final ConfirmCommandService confirmCommandService;
+    private final ConfirmResultService confirmResultService;
+
+    @Value("${ticketing.confirm.result.default-wait-ms:25000}")
+    private long defaultWaitMs;
+
+    @Value("${ticketing.confirm.result.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    @Value("${ticketing.confirm.result.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    /**
+     * 확정 요청 (비동기: outbox -> Kafka -> ConfirmRequestedConsumer)
+     * POST /api/tickets/confirm {"scheduleId":1,"seatNo":"A1","userId":1001}
+     * -> 202 {"eventId": "..."}
+     */
+    @PostMapping
+    public ResponseEntity<ConfirmAcceptedResponse> request(@RequestBody ConfirmSeatRequest req) {
+        String eventId = confirmCommandService.requestConfirm(req.scheduleId(), req.seatNo(), req.userId());
+        return ResponseEntity.accepted().body(new ConfirmAcceptedResponse(eventId));
+    }
+
+    /**
+     * 확정 결과 long-poll
+     * GET /api/tickets/confirm/{eventId}?userId=1001&waitMs=25000
+     *
+     * - consumer 가 처리를 끝내면 바로 200 (CONFIRMED / REJECTED / FAILED + reason)
+     * - waitMs 안에 안 끝나면 202 PENDING -> 같은 요청을 다시 보내면 됨
+     * - 다른 사용자의 eventId 면 404
+     * - 노드 대기 수 초과 시 body 없이 503 + Retry-After (jitter 포함)
+     */
+    @GetMapping("/{eventId}")
+    public DeferredResult<ResponseEntity<ConfirmResultResponse>> result(
+            @PathVariable String eventId,
+            @RequestParam Long userId,
+            @RequestParam(required = false) Long waitMs
+    ) {
+        long wait = Math.min(maxWaitMs, Math.max(100L, waitMs == null ? defaultWaitMs : waitMs));
+        DeferredResult<ResponseEntity<ConfirmResultResponse>> out =
+                new DeferredResult<>(wait, ResponseEntity.accepted().body(ConfirmResultResponse.pending(eventId)));
+
+        CompletableFuture<ConfirmResult> f;
+        try {
+            f = confirmResultService.await(eventId);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != ErrorCode.CONFIRM_WAIT_CAPACITY_EXCEEDED) throw e;
+            int retryAfter = retryAfterSeconds + ThreadLocalRandom.current().nextInt(retryAfterSeconds + 1);
+            out.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .build());
+            return out;
+        }
+
+        // timeout/연결 종료 시 대기 해제
+        out.onCompletion(() -> confirmResultService.cancel(eventId, f));
+        f.thenAccept(r -> {
+            if (!userId.equals(r.userId())) {
+                out.setErrorResult(new BusinessException(ErrorCode.CONFIRM_RESULT_NOT_FOUND));
+                return;
+            }
+            out.setResult(ResponseEntity.ok(new ConfirmResultResponse(
+                    r.eventId(), r.status().name(), r.reason(), r.scheduleId(), r.seatNo(), r.completedAt()
+            )));
+        });
+        return out;
+    }
+}
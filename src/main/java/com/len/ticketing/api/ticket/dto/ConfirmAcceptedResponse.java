@@ -0,0 +1,8 @@
+package com.len.ticketing.api.ticket.dto;
+
+/**
+ * eventId: GET /api/tickets/confirm/{eventId} 로 결과를 기다릴 때 사용
+ */
+public record ConfirmAcceptedResponse(
+        String eventId
+) {}
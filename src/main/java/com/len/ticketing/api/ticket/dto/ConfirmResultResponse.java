@@ -0,0 +1,20 @@
+package com.len.ticketing.api.ticket.dto;
+
+import java.time.Instant;
+
+/**
+ * status: PENDING(아직 처리 전, 다시 요청) | CONFIRMED | REJECTED | FAILED
+ * reason: already_confirmed, stale, hold_not_valid, dead_letter
+ */
+public record ConfirmResultResponse(
+        String eventId,
+        String status,
+        String reason,
+        Long scheduleId,
+        String seatNo,
+        Instant completedAt
+) {
+    public static ConfirmResultResponse pending(String eventId) {
+        return new ConfirmResultResponse(eventId, "PENDING", null, null, null, null);
+    }
+}
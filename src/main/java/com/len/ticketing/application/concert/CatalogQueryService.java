@@ -0,0 +1,183 @@
+package com.len.ticketing.application.concert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.len.ticketing.api.concert.dto.ConcertResponse;
+import com.len.ticketing.api.concert.dto.ScheduleResponse;
+import com.len.ticketing.api.concert.dto.SeatResponse;
+import com.len.ticketing.infra.concert.ConcertJpaRepository;
+import com.len.ticketing.infra.concert.ScheduleJpaRepository;
+import com.len.ticketing.infra.concert.SeatJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 카탈로그(공연/회차/좌석) read-through 캐시.
+ *
+ * - key 별로 CompletableFuture 1개 -> 동시에 들어온 같은 miss 는 쿼리 1번을 같이 기다림 (single-flight)
+ * - 값은 직렬화가 끝난 JSON bytes + ETag -> hit 경로는 DB/Jackson 둘 다 안 탐
+ * - TTL 이 지나면 다음 요청이 다시 적재 (카탈로그는 앱에서 쓰지 않음 -> 무효화는 TTL 로만)
+ * - 적재 실패는 캐시하지 않음 (기다리던 요청만 같은 예외를 받고 다음 요청이 재시도)
+ * - 엔트리 수 상한: 넘으면 먼저 TTL 지난 엔트리를 치우고(최대 초당 1번), 그래도 넘으면
+ *   적재 결과를 기다리던 요청에만 주고 캐시에 남기지 않음 (임의 afterId 로 메모리 불리기 방지)
+ */
+@Service
+public class CatalogQueryService {
+
+    public record CachedBody(byte[] json, String etag, Long nextAfterId, long loadedAtMs) {}
+
+    private static final String CONCERTS = "concerts:";
+    private static final String SCHEDULES = "schedules:";
+    private static final String SEATS = "seats:";
+
+    private final ConcertJpaRepository concertRepository;
+    private final ScheduleJpaRepository scheduleRepository;
+    private final SeatJpaRepository seatRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CompletableFuture<CachedBody>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgeMs = new AtomicLong();
+
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter coalesced;
+
+    @Value("${ticketing.catalog.cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${ticketing.catalog.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${ticketing.catalog.max-page-size:500}")
+    private int maxPageSize;
+
+    public CatalogQueryService(ConcertJpaRepository concertRepository,
+                               ScheduleJpaRepository scheduleRepository,
+                               SeatJpaRepository seatRepository,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.concertRepository = concertRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.seatRepository = seatRepository;
+        this.objectMapper = objectMapper;
+        this.hit = meterRegistry.counter("ticketing.catalog.cache", "result", "hit");
+        this.miss = meterRegistry.counter("ticketing.catalog.cache", "result", "miss");
+        this.coalesced = meterRegistry.counter("ticketing.catalog.cache", "result", "coalesced");
+    }
+
+    /**
+     * 공연 목록 (keyset pagination)
+     * size == null 이면 전체 목록 (기존 API 호환), 아니면 id > afterId 인 size 개 + 다음 페이지 afterId
+     */
+    public CachedBody concerts(Long afterId, Integer size) {
+        long after = afterId == null ? 0L : Math.max(0L, afterId);
+        int limit = size == null ? Integer.MAX_VALUE : Math.max(1, Math.min(size, maxPageSize));
+        String key = size == null ? CONCERTS + "all" : CONCERTS + after + ":" + limit;
+
+        return get(key, () -> {
+            List<ConcertResponse> rows = concertRepository.findRowsAfter(after, limit).stream()
+                    .map(r -> new ConcertResponse(r.getId(), r.getTitle(), r.getDescription()))
+                    .toList();
+            Long next = size != null && rows.size() == limit ? rows.get(rows.size() - 1).id() : null;
+            return serialize(rows, next);
+        });
+    }
+
+    public CachedBody schedules(Long concertId) {
+        return get(SCHEDULES + concertId, () -> serialize(
+                scheduleRepository.findRowsByConcertId(concertId).stream()
+                        .map(r -> new ScheduleResponse(r.getId(), r.getConcertId(), r.getShowAt()))
+                        .toList(),
+                null));
+    }
+
+    public CachedBody seats(Long scheduleId) {
+        return get(SEATS + scheduleId, () -> serialize(
+                seatRepository.findRowsByScheduleId(scheduleId).stream()
+                        .map(r -> new SeatResponse(r.getId(), r.getScheduleId(), r.getSeatNo(), r.getPrice()))
+                        .toList(),
+                null));
+    }
+
+    // ---------------- internal ----------------
+
+    private CachedBody get(String key, Supplier<CachedBody> loader) {
+        CompletableFuture<CachedBody> existing = entries.get(key);
+        if (existing != null && usable(existing)) {
+            (existing.isDone() ? hit : coalesced).increment();
+            return join(existing);
+        }
+
+        CompletableFuture<CachedBody> mine = new CompletableFuture<>();
+        CompletableFuture<CachedBody> winner = entries.compute(key, (k, cur) ->
+                cur != null && usable(cur) ? cur : mine);
+        if (winner != mine) {
+            (winner.isDone() ? hit : coalesced).increment();
+            return join(winner);
+        }
+
+        miss.increment();
+        try {
+            CachedBody body = loader.get();
+            mine.complete(body);
+            if (entries.size() > maxEntries) {
+                purgeExpired();
+                if (entries.size() > maxEntries) {
+                    entries.remove(key, mine);
+                }
+            }
+            return body;
+        } catch (RuntimeException e) {
+            entries.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * TTL 지난(또는 실패한) 엔트리 제거. 상한에 걸린 적재마다 전체를 훑지 않게 초당 1번까지만
+     */
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long last = lastPurgeMs.get();
+        if (now - last < 1000 || !lastPurgeMs.compareAndSet(last, now)) return;
+
+        entries.entrySet().removeIf(e -> !usable(e.getValue()));
+    }
+
+    private boolean usable(CompletableFuture<CachedBody> f) {
+        if (!f.isDone()) return true;                   // 적재 중 -> 같이 기다림
+        if (f.isCompletedExceptionally()) return false;
+        return System.currentTimeMillis() - f.join().loadedAtMs() < ttlMs;
+    }
+
+    private CachedBody serialize(Object value, Long nextAfterId) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            String etag = "\"" + Integer.toHexString(Arrays.hashCode(json)) + "-" + json.length + "\"";
+            return new CachedBody(json, etag, nextAfterId, System.currentTimeMillis());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("catalog serialize failed", e);
+        }
+    }
+
+    private static CachedBody join(CompletableFuture<CachedBody> f) {
+        try {
+            return f.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw ex;
+        }
+    }
+}
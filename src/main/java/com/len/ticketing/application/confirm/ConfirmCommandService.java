@@ -1,9 +1,9 @@
 package com.len.ticketing.application.confirm;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.len.ticketing.application.reservation.ReservationService;
+import com.len.ticketing.common.id.TimeOrderedIds;
 import com.len.ticketing.domain.outbox.OutboxEvent;
+import com.len.ticketing.infra.outbox.OutboxDispatcher;
 import com.len.ticketing.infra.outbox.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -13,7 +13,6 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -22,11 +21,15 @@ public class ConfirmCommandService {
     public static final String TOPIC = "ticket.confirm.requested.v1";
 
     private final OutboxEventRepository outboxEventRepository;
-    private final ObjectMapper objectMapper;
+    private final ConfirmRequestedCodec codec;
     private final ReservationService reservationService;
+    private final OutboxDispatcher outboxDispatcher;
 
+    /**
+     * @return eventId (결과는 ConfirmResultService 로 기다림)
+     */
     @Transactional
-    public void requestConfirm(Long scheduleId, String seatNo, Long userId) {
+    public String requestConfirm(Long scheduleId, String seatNo, Long userId) {
         if (scheduleId == null || userId == null || seatNo == null || seatNo.isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_CONFIRM_REQUEST");
         }
@@ -39,20 +42,21 @@ public class ConfirmCommandService {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "HOLD_NOT_FOUND");
         }
 
-        String eventId = UUID.randomUUID().toString();
+        // outbox_event PK -> 랜덤 UUID 대신 UUIDv7 (append-only insert)
+        String eventId = TimeOrderedIds.nextUuid();
         String key = scheduleId + ":" + sn;
 
         ConfirmRequestedPayload payload = new ConfirmRequestedPayload(
                 eventId, scheduleId, sn, userId, Instant.now()
         );
 
-        try {
-            String json = objectMapper.writeValueAsString(payload);
-            outboxEventRepository.save(
-                    OutboxEvent.pending(eventId, TOPIC, key, json)
-            );
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Outbox payload serialize failed", e);
-        }
+        // topic 설정에 따라 compact binary 또는 JSON
+        OutboxEvent event = codec.binary(TOPIC)
+                ? OutboxEvent.pendingBinary(eventId, TOPIC, key, codec.encodeBinary(payload))
+                : OutboxEvent.pending(eventId, TOPIC, key, codec.encodeJson(payload));
+        // 커밋 직후 바로 발행, poller 는 이게 놓친 것만 (grace 이후)
+        outboxDispatcher.dispatchAfterCommit(event);
+        outboxEventRepository.save(event);
+        return eventId;
     }
 }
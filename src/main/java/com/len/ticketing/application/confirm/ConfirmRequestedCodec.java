@@ -0,0 +1,164 @@
+package com.len.ticketing.application.confirm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ConfirmRequestedPayload 인코딩 (JSON / compact binary).
+ *
+ * binary v1 (big-endian):
+ *   [0]  magic 0xC5 (JSON 은 '{' 로 시작 -> 첫 바이트로 구분, 섞여 있어도 decode 가능)
+ *   [1]  version
+ *   [2]  flags (bit0 = eventId 가 UUID 라 16바이트 고정, 아니면 u8 길이 + UTF-8)
+ *   eventId, scheduleId(8), userId(8), requestedAt epoch ms(8, null 이면 Long.MIN_VALUE), seatNo(u8 길이 + UTF-8)
+ *
+ * 스키마 변경 규칙: 필드는 뒤에 추가만 하고 version 을 올림
+ * - 옛 decoder 는 모르는 뒤쪽 바이트를 무시 (forward)
+ * - 새 decoder 는 version 보고 없는 필드를 기본값으로 (backward)
+ *
+ * topic 별 전환: ticketing.events.binary-topics 에 있는 topic 만 binary 로 씀 (consumer 는 둘 다 읽음)
+ * -> consumer 를 먼저 배포한 뒤 topic 을 켜야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class ConfirmRequestedCodec {
+
+    public static final byte MAGIC = (byte) 0xC5;
+    public static final byte VERSION = 1;
+
+    private static final int FLAG_UUID_EVENT_ID = 1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final int MAX_INTERNED_SEATS = 10_000;
+
+    private final ObjectMapper objectMapper;
+
+    // 좌석 번호는 종류가 적어서 같은 인스턴스를 재사용 (배치 안 SeatKey/로그 등에서 중복 String 이 쌓이지 않게)
+    private final ConcurrentHashMap<String, String> seatNos = new ConcurrentHashMap<>();
+
+    @Value("${ticketing.events.binary-topics:}")
+    private Set<String> binaryTopics = Set.of();
+
+    public boolean binary(String topic) {
+        return binaryTopics.contains(topic);
+    }
+
+    public String encodeJson(ConfirmRequestedPayload p) {
+        try {
+            return objectMapper.writeValueAsString(p);
+        } catch (IOException e) {
+            throw new UncheckedIOException("confirm payload serialize failed", e);
+        }
+    }
+
+    public byte[] encodeBinary(ConfirmRequestedPayload p) {
+        UUID uuid = parseUuid(p.eventId());
+        byte[] eventId = uuid == null ? p.eventId().getBytes(StandardCharsets.UTF_8) : null;
+        byte[] seatNo = p.seatNo().getBytes(StandardCharsets.UTF_8);
+        if ((eventId != null && eventId.length > 255) || seatNo.length > 255) {
+            throw new IllegalArgumentException("confirm payload field too long");
+        }
+
+        int size = 3 + (uuid != null ? 16 : 1 + eventId.length) + 8 + 8 + 8 + 1 + seatNo.length;
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        buf.put(MAGIC).put(VERSION).put((byte) (uuid != null ? FLAG_UUID_EVENT_ID : 0));
+        if (uuid != null) {
+            buf.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+        } else {
+            buf.put((byte) eventId.length).put(eventId);
+        }
+        buf.putLong(p.scheduleId());
+        buf.putLong(p.userId());
+        buf.putLong(p.requestedAt() == null ? NULL_TIME : p.requestedAt().toEpochMilli());
+        buf.put((byte) seatNo.length).put(seatNo);
+        return buf.array();
+    }
+
+    /**
+     * 첫 바이트로 binary / JSON 판별
+     *
+     * @throws IllegalArgumentException 깨진 payload 또는 모르는 version
+     */
+    public ConfirmRequestedPayload decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new IllegalArgumentException("empty payload");
+        }
+        if (bytes[0] != MAGIC) {
+            try {
+                return objectMapper.readValue(bytes, ConfirmRequestedPayload.class);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("invalid json payload", e);
+            }
+        }
+        try {
+            return decodeBinary(ByteBuffer.wrap(bytes));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("truncated binary payload", e);
+        }
+    }
+
+    private ConfirmRequestedPayload decodeBinary(ByteBuffer buf) {
+        buf.get(); // magic
+        int version = buf.get() & 0xFF; // unsigned -> 128 이상 version 도 forward 규칙대로 읽음
+        if (version < 1) {
+            throw new IllegalArgumentException("unknown payload version " + version);
+        }
+        // version > VERSION: 뒤에 붙은 새 필드만 무시하면 되므로 그대로 읽음
+        int flags = buf.get();
+
+        String eventId;
+        if ((flags & FLAG_UUID_EVENT_ID) != 0) {
+            eventId = new UUID(buf.getLong(), buf.getLong()).toString();
+        } else {
+            eventId = readString(buf);
+        }
+        long scheduleId = buf.getLong();
+        long userId = buf.getLong();
+        long time = buf.getLong();
+        String seatNo = intern(readString(buf));
+
+        return new ConfirmRequestedPayload(
+                eventId, scheduleId, seatNo, userId,
+                time == NULL_TIME ? null : Instant.ofEpochMilli(time)
+        );
+    }
+
+    private static String readString(ByteBuffer buf) {
+        int len = buf.get() & 0xFF;
+        byte[] b = new byte[len];
+        buf.get(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    private String intern(String seatNo) {
+        String cached = seatNos.get(seatNo);
+        if (cached != null) return cached;
+        if (seatNos.size() >= MAX_INTERNED_SEATS) return seatNo;
+        String prev = seatNos.putIfAbsent(seatNo, seatNo);
+        return prev != null ? prev : seatNo;
+    }
+
+    /**
+     * UUID 정규 표기(소문자 36자)일 때만 -> decode 결과 문자열이 원래 값과 같음
+     */
+    private static UUID parseUuid(String s) {
+        if (s == null || s.length() != 36) return null;
+        try {
+            UUID u = UUID.fromString(s);
+            return u.toString().equals(s) ? u : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
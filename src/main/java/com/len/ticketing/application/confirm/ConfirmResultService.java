@@ -0,0 +1,111 @@
+package com.len.ticketing.application.confirm;
+
+import com.len.ticketing.common.exception.BusinessException;
+import com.len.ticketing.common.exception.ErrorCode;
+import com.len.ticketing.domain.outbox.ConfirmResult;
+import com.len.ticketing.domain.outbox.ConfirmResultStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * confirm 결과 전달 (클라이언트 polling 대신 long-poll).
+ *
+ * - consumer 가 처리를 끝내면 publish -> ConfirmResultStore 에 저장 + 모든 노드로 전파
+ * - 각 노드는 eventId 별 대기 future 를 들고 있다가 전파를 받으면(deliverLocal) 완료
+ * - await 는 등록 후 저장소를 한 번 조회 -> 이미 끝난 결과, 등록 직전에 지나간 전파도 놓치지 않음
+ * - 노드당 동시 대기 수는 max-waiters 까지 (넘으면 CONFIRM_WAIT_CAPACITY_EXCEEDED)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConfirmResultService {
+
+    private final ConfirmResultStore confirmResultStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticketing.confirm.result.max-waiters:20000}")
+    private int maxWaiters;
+
+    private final ConcurrentHashMap<String, Set<CompletableFuture<ConfirmResult>>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    @PostConstruct
+    public void init() {
+        meterRegistry.gauge("ticketing.confirm.result.waiters", waiting);
+    }
+
+    /**
+     * 결과가 나오면 완료되는 future (기다림을 그만둘 때는 cancel)
+     */
+    public CompletableFuture<ConfirmResult> await(String eventId) {
+        if (waiting.incrementAndGet() > maxWaiters) {
+            waiting.decrementAndGet();
+            meterRegistry.counter("ticketing.confirm.result.rejected").increment();
+            throw new BusinessException(ErrorCode.CONFIRM_WAIT_CAPACITY_EXCEEDED);
+        }
+
+        CompletableFuture<ConfirmResult> f = new CompletableFuture<>();
+        f.whenComplete((r, e) -> waiting.decrementAndGet()); // 완료/취소 모두 1번
+        waiters.computeIfAbsent(eventId, k -> ConcurrentHashMap.newKeySet()).add(f);
+
+        try {
+            ConfirmResult done = confirmResultStore.find(eventId);
+            if (done != null) {
+                // 자기 future 를 직접 완료 -> 같은 eventId 의 다른 await 가 set 을 교체하는 중이어도 놓치지 않음
+                unregister(eventId, f);
+                f.complete(done);
+            }
+        } catch (Exception e) {
+            // 조회 실패 -> 전파를 기다림 (못 받으면 timeout 후 클라이언트 재요청)
+            log.debug("[ConfirmResultService] result lookup failed. eventId={}", eventId, e);
+        }
+        return f;
+    }
+
+    public void cancel(String eventId, CompletableFuture<ConfirmResult> f) {
+        unregister(eventId, f);
+        f.cancel(false);
+    }
+
+    /**
+     * 전파 수신 (이 노드의 대기자만)
+     */
+    public void deliverLocal(ConfirmResult result) {
+        Set<CompletableFuture<ConfirmResult>> set = waiters.remove(result.eventId());
+        if (set == null) return;
+        for (CompletableFuture<ConfirmResult> f : set) {
+            f.complete(result);
+        }
+    }
+
+    private void unregister(String eventId, CompletableFuture<ConfirmResult> f) {
+        waiters.computeIfPresent(eventId, (k, set) -> {
+            set.remove(f);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * consumer 처리 결과 기록 (커밋 후, 실패해도 확정 자체에는 영향 없음 -> 클라이언트는 timeout 후 재요청)
+     */
+    public void publish(Collection<ConfirmResult> results) {
+        if (results.isEmpty()) return;
+        try {
+            confirmResultStore.saveAll(results);
+            meterRegistry.counter("ticketing.confirm.result.published").increment(results.size());
+        } catch (Exception e) {
+            meterRegistry.counter("ticketing.confirm.result.publish_failed").increment(results.size());
+            log.warn("[ConfirmResultService] publish failed. size={}", results.size(), e);
+        }
+    }
+}
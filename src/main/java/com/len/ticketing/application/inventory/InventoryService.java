@@ -0,0 +1,144 @@
+package com.len.ticketing.application.inventory;
+
+import com.len.ticketing.application.job.JobCoordinator;
+import com.len.ticketing.application.job.JobRunner;
+import com.len.ticketing.domain.inventory.InventoryStore;
+import com.len.ticketing.domain.job.ShardLease;
+import com.len.ticketing.infra.concert.SeatJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * schedule 별 남은 좌석 카운터 + 매진 fast path.
+ *
+ * - hold 성공: -1, 취소/만료: +1 (확정은 HELD -> CONFIRMED 라 변화 없음)
+ * - isSoldOut 은 노드 로컬에 짧게(check-cache-ms) 캐시 -> 매진 후 몰리는 요청은 Redis 도 안 탐
+ *   (카운터가 있는 schedule 만 캐시, 오래된 항목은 reconcile tick 마다 정리)
+ * - reconcile: shard 담당 노드가 주기적으로 DB 기준 값으로 덮어씀 (유실/중복 반영 보정, 최초 집계)
+ *   카운터를 DB 집계 전에 읽고, 그 값과 같을 때만 덮어씀 (CAS) -> 그 사이 들어온 adjust 가 있으면 이번 tick 은 건너뛰고 다음 tick 에 다시
+ * - 카운터가 없거나 Redis 오류면 "매진 아님"으로 보고 기존 경로로 진행 (최종 판정은 여전히 락/DB)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryService {
+
+    private static final String JOB_RECONCILE = "inventory-reconcile";
+
+    private record Cached(boolean soldOut, long atMs) {}
+
+    private final InventoryStore inventoryStore;
+    private final SeatJpaRepository seatRepository;
+    private final JobCoordinator jobCoordinator;
+    private final JobRunner jobRunner;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Cached> soldOutCache = new ConcurrentHashMap<>();
+
+    @Value("${ticketing.inventory.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ticketing.inventory.check-cache-ms:500}")
+    private long checkCacheMs;
+
+    public boolean isSoldOut(long scheduleId) {
+        if (!enabled) return false;
+
+        long now = System.currentTimeMillis();
+        Cached c = soldOutCache.get(scheduleId);
+        if (c != null && now - c.atMs() < checkCacheMs) return c.soldOut();
+
+        Long remaining;
+        try {
+            remaining = inventoryStore.remaining(scheduleId);
+        } catch (Exception e) {
+            return false;
+        }
+        // 집계된(= DB 에 있는) schedule 만 캐시 -> 검증 전 임의 scheduleId 요청으로 map 이 커지지 않음
+        if (remaining == null) return false;
+
+        boolean soldOut = remaining <= 0;
+        soldOutCache.put(scheduleId, new Cached(soldOut, now));
+        return soldOut;
+    }
+
+    /**
+     * 매진 판정으로 요청을 끊었을 때 호출 (어느 경로에서 얼마나 걸러졌는지)
+     */
+    public void countRejected(String path) {
+        meterRegistry.counter("ticketing.inventory.sold_out_rejected", "path", path).increment();
+    }
+
+    public void onHeld(long scheduleId) {
+        adjust(scheduleId, -1);
+    }
+
+    public void onReleased(long scheduleId, int count) {
+        if (count <= 0) return;
+        adjust(scheduleId, count);
+        soldOutCache.remove(scheduleId); // 자리가 났으면 이 노드는 바로 다시 받음
+    }
+
+    @Scheduled(fixedDelayString = "${ticketing.inventory.reconcile-interval-ms:5000}")
+    public void reconcileTick() {
+        if (!enabled) return;
+        jobRunner.run(JOB_RECONCILE, this::reconcile);
+    }
+
+    public void reconcile() {
+        evictStale(System.currentTimeMillis());
+
+        int shardCount = jobCoordinator.shardCount();
+        LocalDateTime now = LocalDateTime.now();
+        for (ShardLease lease : jobCoordinator.ownedShards(JOB_RECONCILE)) {
+            try {
+                // 카운터를 DB 집계 "전"에 읽음 -> 집계 이후 들어온 adjust 는 모두 CAS 에서 걸러짐
+                List<Long> scheduleIds = seatRepository.findUpcomingScheduleIds(now, lease.shard(), shardCount);
+                if (scheduleIds.isEmpty()) continue;
+                Map<Long, Long> counters = inventoryStore.remainingAll(scheduleIds);
+                Set<Long> known = new HashSet<>(scheduleIds);
+
+                for (SeatJpaRepository.RemainingRow row : seatRepository.countRemaining(now, lease.shard(), shardCount)) {
+                    if (!known.contains(row.getScheduleId())) continue; // 사이에 생긴 schedule -> 다음 tick
+                    Long before = counters.get(row.getScheduleId());
+                    if (!inventoryStore.resetIfUnchanged(row.getScheduleId(), before, row.getRemaining())) {
+                        meterRegistry.counter("ticketing.inventory.reconcile_skipped").increment();
+                        continue;
+                    }
+                    if (before != null && before != row.getRemaining()) {
+                        meterRegistry.counter("ticketing.inventory.drift").increment();
+                        log.debug("[InventoryService] drift corrected. scheduleId={}, counter={}, db={}",
+                                row.getScheduleId(), before, row.getRemaining());
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("[InventoryService] reconcile failed. shard={}", lease.shard(), e);
+            }
+        }
+    }
+
+    private void evictStale(long nowMs) {
+        soldOutCache.values().removeIf(c -> nowMs - c.atMs() >= checkCacheMs);
+    }
+
+    private void adjust(long scheduleId, long delta) {
+        if (!enabled) return;
+        try {
+            inventoryStore.adjust(scheduleId, delta);
+        } catch (Exception e) {
+            // 다음 reconcile 이 보정
+            log.debug("[InventoryService] adjust failed. scheduleId={}, delta={}", scheduleId, delta, e);
+        }
+    }
+}
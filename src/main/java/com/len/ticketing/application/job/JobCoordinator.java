@@ -0,0 +1,167 @@
+package com.len.ticketing.application.job;
+
+import com.len.ticketing.domain.job.JobLeaseStore;
+import com.len.ticketing.domain.job.JobShards;
+import com.len.ticketing.domain.job.ShardLease;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 백그라운드 job 을 노드 간에 shard 단위로 나눠 갖는 coordinator.
+ *
+ * - 노드는 heartbeat 로 membership 에 등록되고, 정렬된 live 노드 목록에서 자기 index 를 구함
+ * - shard s 는 (s % 노드수 == 내 index) 인 노드가 lease 를 잡음 -> 노드 수에 비례해서 처리량 분산
+ * - lease 는 로컬에 캐시하고 TTL 1/3 남았을 때만 Redis 갱신 (tick 마다 Redis 왕복 안 함)
+ * - 멤버십이 바뀌어 내 담당이 아닌 shard 는 즉시 release -> 새 담당 노드가 바로 가져감
+ *
+ * lease 만으로는 GC pause 등으로 늦게 깨어난 이전 소유자를 막을 수 없으므로,
+ * DB 쓰기 전에 JobFenceStore.validate(fencingToken) 를 같은 트랜잭션에서 호출해야 함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobCoordinator {
+
+    private final JobLeaseStore leaseStore;
+    private final JobRunner jobRunner;
+
+    @Value("${ticketing.jobs.shard-count:16}")
+    private int shardCount;
+
+    @Value("${ticketing.jobs.lease-ttl-ms:10000}")
+    private long leaseTtlMs;
+
+    @Value("${ticketing.jobs.node-ttl-ms:10000}")
+    private long nodeTtlMs;
+
+    private String nodeId;
+
+    private volatile List<String> liveNodes = List.of();
+
+    // job -> shard -> local lease
+    private final Map<String, Map<Integer, LocalLease>> held = new ConcurrentHashMap<>();
+
+    private record LocalLease(long token, long renewAtMs, long validUntilMs) {}
+
+    @PostConstruct
+    public void init() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        nodeId = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        log.info("[JobCoordinator] nodeId={}, shardCount={}, leaseTtlMs={}", nodeId, shardCount, leaseTtlMs);
+    }
+
+    @Scheduled(fixedDelayString = "${ticketing.jobs.heartbeat-interval-ms:3000}")
+    public void heartbeatTick() {
+        jobRunner.run("job-heartbeat", this::heartbeat);
+    }
+
+    public void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            leaseStore.heartbeat(nodeId, now);
+            liveNodes = leaseStore.liveNodes(now - nodeTtlMs);
+        } catch (Exception e) {
+            log.warn("[JobCoordinator] heartbeat failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 정상 종료 시 lease 를 바로 넘겨줌 (TTL 기다리지 않게)
+        held.forEach((job, leases) -> leases.keySet().forEach(shard -> {
+            try {
+                leaseStore.release(job, shard, nodeId);
+            } catch (Exception ignored) {}
+        }));
+        held.clear();
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(long scheduleId) {
+        return JobShards.shardOf(scheduleId, shardCount);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이번 tick 에 이 노드가 처리해야 할 shard lease 목록
+     */
+    public List<ShardLease> ownedShards(String job) {
+        List<String> nodes = liveNodes;
+        if (!nodes.contains(nodeId)) {
+            // 기동 직후(heartbeat 전) 또는 membership 에서 밀려난 경우
+            heartbeat();
+            nodes = liveNodes;
+        }
+
+        int n = Math.max(1, nodes.size());
+        int me = Math.max(0, nodes.indexOf(nodeId));
+        long now = System.currentTimeMillis();
+
+        Map<Integer, LocalLease> leases = held.computeIfAbsent(job, k -> new ConcurrentHashMap<>());
+        List<ShardLease> owned = new ArrayList<>();
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            boolean mine = (shard % n) == me;
+            LocalLease cur = leases.get(shard);
+
+            if (!mine) {
+                if (cur != null) {
+                    leases.remove(shard);
+                    try {
+                        leaseStore.release(job, shard, nodeId);
+                    } catch (Exception ignored) {}
+                }
+                continue;
+            }
+
+            if (cur == null || now >= cur.renewAtMs()) {
+                cur = acquire(job, shard, now);
+                if (cur == null) {
+                    leases.remove(shard);
+                    continue;
+                }
+                leases.put(shard, cur);
+            }
+
+            if (now < cur.validUntilMs()) {
+                owned.add(new ShardLease(job, shard, cur.token()));
+            }
+        }
+        return owned;
+    }
+
+    private LocalLease acquire(String job, int shard, long now) {
+        try {
+            Long token = leaseStore.tryAcquire(job, shard, nodeId, leaseTtlMs);
+            if (token == null) return null;
+            // 로컬 유효기간은 TTL 보다 약간 짧게 (clock drift 여유)
+            return new LocalLease(token, now + leaseTtlMs / 3, now + leaseTtlMs * 2 / 3);
+        } catch (Exception e) {
+            log.warn("[JobCoordinator] lease acquire failed. job={}, shard={}", job, shard, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.len.ticketing.application.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 백그라운드 job 실행기.
+ *
+ * @Scheduled 메서드는 trigger 역할만 하고, 실제 작업은 job 별 전용 executor 에서 실행됨.
+ * -> outbox 배치가 느려도 queue advance / hold expiry 가 같은 scheduler 스레드에서 밀리지 않음.
+ *
+ * job 별 설정 (ticketing.jobs.{job}.*):
+ * - concurrency: 동시에 실행 가능한 run 수 (기본 1 = executor 스레드 수)
+ * - overrun-policy: 이전 run 이 아직 안 끝났을 때의 처리
+ *     skip     : 이번 tick 버림
+ *     coalesce : 밀린 tick 을 1번으로 합쳐서 현재 run 이 끝나자마자 바로 한 번 더 실행
+ *
+ * metrics: ticketing.job.run(실행 시간), ticketing.job.lag(원래 돌았어야 할 tick -> 실제 시작), ticketing.job.overrun
+ *
+ * lag 기준 시각 = 직전 run 시작 이후 처음 들어온 tick (skip/coalesce 로 밀린 tick 포함).
+ * @Scheduled 메서드는 dispatch 만 해서 tick 도착 시각 ≈ trigger 예정 시각 -> 밀린 tick 이 있으면 그만큼 lag 로 잡힘
+ * (정상이면 0 근처, run 이 주기보다 길어지면 주기 초과분이 보임)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobRunner {
+
+    public enum OverrunPolicy { SKIP, COALESCE }
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final Map<String, JobSlot> slots = new ConcurrentHashMap<>();
+
+    public void run(String job, Runnable body) {
+        slots.computeIfAbsent(job, this::newSlot).dispatch(body);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        slots.values().forEach(s -> s.executor.shutdown());
+        for (JobSlot s : slots.values()) {
+            try {
+                if (!s.executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    s.executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                s.executor.shutdownNow();
+            }
+        }
+    }
+
+    private JobSlot newSlot(String job) {
+        String prefix = "ticketing.jobs." + job + ".";
+        int concurrency = Math.max(1, environment.getProperty(prefix + "concurrency", Integer.class, 1));
+        OverrunPolicy policy = OverrunPolicy.valueOf(
+                environment.getProperty(prefix + "overrun-policy", "skip").trim().toUpperCase(Locale.ROOT)
+        );
+
+        log.info("[JobRunner] job={}, concurrency={}, overrunPolicy={}", job, concurrency, policy);
+        return new JobSlot(job, concurrency, policy);
+    }
+
+    private final class JobSlot {
+
+        private final String job;
+        private final int concurrency;
+        private final OverrunPolicy policy;
+        private final ExecutorService executor;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean pending = new AtomicBoolean();
+        // 아직 실행으로 이어지지 않은 가장 이른 tick (0 = 없음)
+        private final AtomicLong dueNs = new AtomicLong();
+
+        private JobSlot(String job, int concurrency, OverrunPolicy policy) {
+            this.job = job;
+            this.concurrency = concurrency;
+            this.policy = policy;
+            this.executor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("job-" + job + "-"));
+        }
+
+        void dispatch(Runnable body) {
+            long tickNs = System.nanoTime();
+            dueNs.compareAndSet(0, tickNs);
+            dispatch(body, tickNs);
+        }
+
+        private void dispatch(Runnable body, long tickNs) {
+            if (inFlight.incrementAndGet() > concurrency) {
+                inFlight.decrementAndGet();
+                meterRegistry.counter("ticketing.job.overrun", "job", job, "policy", policy.name().toLowerCase(Locale.ROOT))
+                        .increment();
+                if (policy == OverrunPolicy.COALESCE) {
+                    pending.set(true);
+                }
+                return;
+            }
+
+            try {
+                executor.execute(() -> execute(body, tickNs));
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private void execute(Runnable body, long tickNs) {
+            long startNs = System.nanoTime();
+            // 이 run 이 밀린 tick 들을 대신 처리 -> 그중 가장 이른 tick 기준
+            long due = dueNs.getAndSet(0);
+            if (due == 0 || due - tickNs > 0) {
+                due = tickNs;
+            }
+            meterRegistry.timer("ticketing.job.lag", "job", job).record(startNs - due, TimeUnit.NANOSECONDS);
+
+            String outcome = "success";
+            try {
+                body.run();
+            } catch (Exception e) {
+                outcome = "error";
+                log.warn("[JobRunner] job failed. job={}", job, e);
+            } finally {
+                meterRegistry.timer("ticketing.job.run", "job", job, "outcome", outcome)
+                        .record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+                inFlight.decrementAndGet();
+            }
+
+            // coalesce: 실행 중에 밀린 tick 이 있었으면 한 번만 이어서 실행
+            if (pending.compareAndSet(true, false)) {
+                dispatch(body, System.nanoTime());
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.len.ticketing.application.payment;
 
-import com.len.ticketing.application.reservation.ReservationService;
+import com.len.ticketing.application.inventory.InventoryService;
+import com.len.ticketing.application.ticket.TicketService;
 import com.len.ticketing.common.exception.BusinessException;
+import com.len.ticketing.common.id.TimeOrderedIds;
 import com.len.ticketing.common.exception.ErrorCode;
 import com.len.ticketing.domain.concert.Seat;
 import com.len.ticketing.domain.payment.PaymentOrder;
@@ -9,13 +11,16 @@ import com.len.ticketing.domain.payment.PaymentStatus;
 import com.len.ticketing.infra.concert.SeatJpaRepository;
 import com.len.ticketing.infra.payment.PaymentOrderJpaRepository;
 import com.len.ticketing.infra.reservation.ReservationJpaRepository;
+import com.len.ticketing.infra.sse.SeatChangedEvent;
+import com.len.ticketing.infra.sse.SeatSseHub;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @RequiredArgsConstructor
 @Service
@@ -24,7 +29,9 @@ public class PaymentService {
     private final SeatJpaRepository seatRepository;
     private final PaymentOrderJpaRepository paymentOrderRepository;
     private final ReservationJpaRepository reservationRepository;
-    private final ReservationService reservationService;
+    private final TicketService ticketService;
+    private final InventoryService inventoryService;
+    private final SeatSseHub seatSseHub;
 
     @Transactional
     public PaymentReadyResult ready(Long userId, Long scheduleId, String seatNo) {
@@ -48,10 +55,26 @@ public class PaymentService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.HOLD_NOT_FOUND));
 
         // (강추) 혹시 남아있는 중복 HELD를 여기서 정리(ready가 500으로 죽는 재발 방지)
-        reservationRepository.expireOtherActiveHolds(userId, scheduleId, sn, r.getId(), now);
+        int expired = reservationRepository.expireOtherActiveHolds(userId, scheduleId, sn, r.getId(), now);
+        if (expired > 0) {
+            // 정리된 HELD 도 hold 때 남은 좌석을 1씩 줄였음 -> 커밋 후 되돌림
+            // 좌석은 r 로 계속 HELD -> 그 상태를 다시 발행해서 좌석 스냅샷/구독자가 DB 와 맞게 (이벤트는 절대 상태라 중복 무해)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    inventoryService.onReleased(scheduleId, expired);
+                    try {
+                        seatSseHub.publish(
+                                scheduleId,
+                                new SeatChangedEvent("HELD", scheduleId, sn, true, userId, LocalDateTime.now())
+                        );
+                    } catch (Exception ignored) {}
+                }
+            });
+        }
 
         // 3) 결제 주문 생성 (amount는 DB seat.price 기준으로 확정)
-        String orderNo = "PO-" + UUID.randomUUID();
+        String orderNo = "PO-" + TimeOrderedIds.nextUuid(); // 시간순(UUIDv7) -> uk_payment_order_no 인덱스 locality
         PaymentOrder order = PaymentOrder.create(userId, scheduleId, sn, seat.getPrice(), orderNo);
         paymentOrderRepository.save(order);
 
@@ -61,7 +84,7 @@ public class PaymentService {
     /**
      * 핵심:
      * - 기존 UnexpectedRollbackException 방지를 위해 바깥 트랜잭션을 사용하지 않음
-     * - confirm()에서 실패해도 catch 후 취소 상태 저장 가능
+     * - confirmSeat()에서 실패해도 catch 후 취소 상태 저장 가능
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResult mockSuccess(String orderNo) {
@@ -77,8 +100,8 @@ public class PaymentService {
         }
 
         try {
-            // 1) hold -> confirmed (reservationService.confirm 내부 트랜잭션 사용)
-            reservationService.confirm(order.getUserId(), order.getScheduleId(), order.getSeatNo());
+            // 1) hold -> confirmed (ticketService.confirmSeat 내부 트랜잭션 사용, 커밋 후 락 해제/SSE 까지)
+            ticketService.confirmSeat(order.getScheduleId(), order.getSeatNo(), order.getUserId());
 
             // 2) 결제 완료 처리
             order.markPaid();
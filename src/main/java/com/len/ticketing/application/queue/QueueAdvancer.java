@@ -1,5 +1,7 @@
 package com.len.ticketing.application.queue;
 
+import com.len.ticketing.application.inventory.InventoryService;
+import com.len.ticketing.application.job.JobRunner;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,8 @@ public class QueueAdvancer {
 
     private final StringRedisTemplate redis;
     private final List<QueueAdvanceEngine> engines;
+    private final JobRunner jobRunner;
+    private final InventoryService inventoryService;
 
     @org.springframework.beans.factory.annotation.Value("${ticketing.queue.capacity:100}")
     private int capacity;
@@ -56,6 +60,10 @@ public class QueueAdvancer {
 
     @Scheduled(fixedDelayString = "${ticketing.queue.advance-interval-ms:200}")
     public void advanceTick() {
+        jobRunner.run("queue-advance", this::advance);
+    }
+
+    private void advance() {
         if (debugLog) {
             log.info("[QueueAdvancer] tick");
         }
@@ -83,6 +91,11 @@ public class QueueAdvancer {
 
             int total = 0;
             for (long scheduleId : scheduleIds) {
+                // 매진 schedule 은 pass 를 더 발급하지 않음 (받아봐야 hold 에서 409)
+                if (inventoryService.isSoldOut(scheduleId)) {
+                    if (debugLog) log.info("[QueueAdvancer] scheduleId={} sold out, skip", scheduleId);
+                    continue;
+                }
                 int advanced = engine.advance(scheduleId, nowMs, capacity, passTtlSeconds);
                 total += advanced;
                 if (debugLog) log.info("[QueueAdvancer] scheduleId={} advanced={}", scheduleId, advanced);
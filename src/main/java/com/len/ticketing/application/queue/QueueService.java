@@ -1,5 +1,8 @@
 package com.len.ticketing.application.queue;
 
+import com.len.ticketing.application.inventory.InventoryService;
+import com.len.ticketing.common.exception.BusinessException;
+import com.len.ticketing.common.exception.ErrorCode;
 import com.len.ticketing.domain.queue.QueuePass;
 import com.len.ticketing.domain.queue.QueueStore;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Service;
 public class QueueService {
 
     private final QueueStore queueStore;
+    private final InventoryService inventoryService;
 
     @Value("${ticketing.queue.capacity:100}")
     private long capacity;
@@ -19,6 +23,7 @@ public class QueueService {
     private long passTtlSeconds;
 
     public QueueStatusDto enter(long scheduleId, long userId) {
+        rejectIfSoldOut(scheduleId, "queue_enter");
         long pos = queueStore.enterQueue(scheduleId, userId);
         return new QueueStatusDto(pos, false, null, null);
     }
@@ -30,7 +35,10 @@ public class QueueService {
             return new QueueStatusDto(0, true, pass.token(), pass.expiresAtEpochMs());
         }
 
-        // 2) pass 없으면 waiting position 반환(없으면 자동 등록)
+        // 2) 매진이면 대기열에 더 쌓지 않음 (취소/만료로 자리가 나면 다시 열림)
+        rejectIfSoldOut(scheduleId, "queue_status");
+
+        // 3) pass 없으면 waiting position 반환(없으면 자동 등록)
         long pos = queueStore.getPosition(scheduleId, userId);
         if (pos == -1) {
             pos = queueStore.enterQueue(scheduleId, userId);
@@ -38,5 +46,12 @@ public class QueueService {
         return new QueueStatusDto(pos, false, null, null);
     }
 
+    private void rejectIfSoldOut(long scheduleId, String path) {
+        if (inventoryService.isSoldOut(scheduleId)) {
+            inventoryService.countRejected(path);
+            throw new BusinessException(ErrorCode.SOLD_OUT);
+        }
+    }
+
     public record QueueStatusDto(long position, boolean canEnter, String token, Long expiresAt) {}
 }
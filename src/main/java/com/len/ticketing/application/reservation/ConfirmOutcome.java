@@ -0,0 +1,30 @@
+package com.len.ticketing.application.reservation;
+
+import com.len.ticketing.common.exception.ErrorCode;
+
+/**
+ * 확정 결과 (배치 경로는 예외 대신 결과로 받아서 같은 트랜잭션의 다른 건에 영향 없게 처리)
+ * 이름이 sp_confirm_hold_v1 가 돌려주는 결과 코드와 같아야 함 (valueOf)
+ */
+public enum ConfirmOutcome {
+    CONFIRMED(null),
+    ALREADY_CONFIRMED(null),    // 멱등 성공
+    HOLD_NOT_FOUND(ErrorCode.HOLD_NOT_FOUND),
+    HOLD_EXPIRED(ErrorCode.HOLD_EXPIRED),
+    NOT_SEAT_OWNER(ErrorCode.NOT_SEAT_OWNER),
+    ALREADY_RESERVED(ErrorCode.ALREADY_RESERVED); // 좌석이 다른 예약으로 이미 확정됨 (guard 충돌)
+
+    private final ErrorCode errorCode;
+
+    ConfirmOutcome(ErrorCode errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    public boolean success() {
+        return errorCode == null;
+    }
+
+    public ErrorCode errorCode() {
+        return errorCode;
+    }
+}
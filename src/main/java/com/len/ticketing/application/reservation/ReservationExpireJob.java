@@ -1,25 +1,151 @@
 package com.len.ticketing.application.reservation;
 
-import com.len.ticketing.infra.reservation.ReservationJpaRepository;
+import com.len.ticketing.application.inventory.InventoryService;
+import com.len.ticketing.application.job.JobCoordinator;
+import com.len.ticketing.application.job.JobRunner;
+import com.len.ticketing.application.ticket.SeatWaitlistService;
+import com.len.ticketing.domain.job.ShardLease;
+import com.len.ticketing.domain.reservation.ExpiringHold;
+import com.len.ticketing.domain.reservation.HoldExpiryStore;
+import com.len.ticketing.domain.ticket.SeatLockStore;
+import com.len.ticketing.infra.sse.SeatChangedEvent;
+import com.len.ticketing.infra.sse.SeatSseHub;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * HOLD 만료 처리.
+ *
+ * 1) expireDue: hold:expiry:z(deadline ZSET)에서 만료된 것만 꺼내 PK 기준으로 EXPIRED 처리 (짧은 주기)
+ * 2) sweep: Redis 유실 대비 DB 스캔 fallback (긴 주기, LIMIT)
+ *
+ * 만료된 HOLD 는 커밋 후 Redis 좌석 락 해제 + SSE(EXPIRED) 발행까지 같이 처리.
+ * tick 당 shard 별 최대 batchSize * maxBatchesPerTick 건만 처리해서 backlog 가 커도 한 번의 실행 시간은 제한됨.
+ *
+ * 노드마다 JobCoordinator 가 나눠준 shard(scheduleId % shardCount)만 처리 -> 노드끼리 같은 row 를 두고 경쟁하지 않음.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 @Profile("!loadtest")
 public class ReservationExpireJob {
 
-    private final ReservationJpaRepository reservationRepository;
+    private static final String METRIC_EXPIRED = "ticketing.reservation.expired";
+    private static final String JOB_DEADLINE = "hold-expiry";
+    private static final String JOB_SWEEP = "hold-expiry-sweep";
 
-    @Scheduled(fixedDelay = 5000)
-    @Transactional
-    public void expireHolds() {
-        // 너무 큰 UPDATE는 데드락 유발 가능성이 높아서 batch 처리
-        reservationRepository.expireBatch(LocalDateTime.now());
+    private final JobCoordinator jobCoordinator;
+    private final JobRunner jobRunner;
+    private final HoldExpiryStore holdExpiryStore;
+    private final ReservationService reservationService;
+    private final SeatLockStore seatLockStore;
+    private final SeatSseHub seatSseHub;
+    private final InventoryService inventoryService;
+    private final SeatWaitlistService seatWaitlistService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticketing.reservation.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${ticketing.reservation.expiry.max-batches-per-tick:4}")
+    private int maxBatchesPerTick;
+
+    @Scheduled(fixedDelayString = "${ticketing.reservation.expiry.poll-interval-ms:200}")
+    public void expireDueTick() {
+        jobRunner.run(JOB_DEADLINE, this::expireDue);
+    }
+
+    @Scheduled(fixedDelayString = "${ticketing.reservation.expiry.sweep-interval-ms:30000}")
+    public void sweepTick() {
+        jobRunner.run(JOB_SWEEP, this::sweep);
+    }
+
+    public void expireDue() {
+        for (ShardLease lease : jobCoordinator.ownedShards(JOB_DEADLINE)) {
+            try {
+                expireDue(lease);
+            } catch (Exception e) {
+                log.warn("[ReservationExpireJob] expireDue failed. shard={}", lease.shard(), e);
+            }
+        }
+    }
+
+    private void expireDue(ShardLease lease) {
+        for (int i = 0; i < maxBatchesPerTick; i++) {
+            List<ExpiringHold> due = holdExpiryStore.pollDue(lease.shard(), System.currentTimeMillis(), batchSize);
+            if (due.isEmpty()) return;
+
+            List<ExpiringHold> expired;
+            try {
+                expired = reservationService.expireDue(lease, due, LocalDateTime.now());
+            } catch (Exception e) {
+                // 꺼낸 항목은 ZSET 에서 빠졌으므로 잠깐 뒤로 다시 넣어둠 (실패해도 sweep 이 결국 정리)
+                long retryAt = System.currentTimeMillis() + 1000L;
+                for (ExpiringHold h : due) {
+                    try {
+                        holdExpiryStore.schedule(h, retryAt);
+                    } catch (Exception ignored) {}
+                }
+                throw e;
+            }
+
+            afterExpired(expired, "deadline");
+
+            if (due.size() < batchSize) return;
+        }
+    }
+
+    public void sweep() {
+        int shardCount = jobCoordinator.shardCount();
+        for (ShardLease lease : jobCoordinator.ownedShards(JOB_SWEEP)) {
+            try {
+                for (int i = 0; i < maxBatchesPerTick; i++) {
+                    // 너무 큰 UPDATE는 데드락 유발 가능성이 높아서 batch 처리
+                    List<ExpiringHold> expired =
+                            reservationService.expireOverdue(lease, shardCount, LocalDateTime.now(), batchSize);
+                    afterExpired(expired, "sweep");
+                    if (expired.size() < batchSize) break;
+                }
+            } catch (Exception e) {
+                log.warn("[ReservationExpireJob] sweep failed. shard={}", lease.shard(), e);
+            }
+        }
+    }
+
+    private void afterExpired(List<ExpiringHold> expired, String source) {
+        if (expired.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Integer> releasedBySchedule = new HashMap<>();
+        for (ExpiringHold h : expired) {
+            releasedBySchedule.merge(h.scheduleId(), 1, Integer::sum);
+            try {
+                seatLockStore.releaseSeat(h.scheduleId(), h.seatNo(), h.userId());
+            } catch (Exception ignored) {}
+
+            seatWaitlistService.onReleased(h.scheduleId(), h.seatNo());
+
+            try {
+                seatSseHub.publish(
+                        h.scheduleId(),
+                        new SeatChangedEvent("EXPIRED", h.scheduleId(), h.seatNo(), false, h.userId(), now)
+                );
+            } catch (Exception ignored) {}
+        }
+
+        releasedBySchedule.forEach(inventoryService::onReleased);
+
+        meterRegistry.counter(METRIC_EXPIRED, "source", source).increment(expired.size());
+        log.debug("[ReservationExpireJob] expired={} source={}", expired.size(), source);
     }
 }
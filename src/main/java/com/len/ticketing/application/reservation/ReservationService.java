@@ -2,8 +2,11 @@ package com.len.ticketing.application.reservation;
 
 import com.len.ticketing.common.exception.BusinessException;
 import com.len.ticketing.common.exception.ErrorCode;
+import com.len.ticketing.domain.job.ShardLease;
+import com.len.ticketing.domain.reservation.ExpiringHold;
 import com.len.ticketing.domain.reservation.Reservation;
 import com.len.ticketing.infra.concert.SeatJpaRepository;
+import com.len.ticketing.infra.job.JobFenceStore;
 import com.len.ticketing.infra.reservation.ConfirmedSeatGuardStore;
 import com.len.ticketing.infra.reservation.ReservationJpaRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,10 +14,15 @@ import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +31,7 @@ public class ReservationService {
     private final SeatJpaRepository seatRepository;
     private final ReservationJpaRepository reservationRepository;
     private final ConfirmedSeatGuardStore confirmedSeatGuardStore; // DB 최종 방어막
+    private final JobFenceStore jobFenceStore;
 
     private static final Duration HOLD_TTL = Duration.ofMinutes(5);
 
@@ -53,6 +62,7 @@ public class ReservationService {
 
             // 핵심: saveAndFlush 금지 (flush 예외 후 세션 꼬임/AssertionFailure 방지)
             // 커밋 시점에 flush 되도록 save()만 사용
+            // (Snowflake ID 라 persist 시점에 INSERT 가 나가지 않음 -> 유니크 충돌은 커밋 시 터지고 TicketService 에서 409 변환)
             return reservationRepository.save(hold);
 
         } catch (DataIntegrityViolationException e) {
@@ -83,60 +93,16 @@ public class ReservationService {
     }
 
     // ---------- CONFIRM ----------
-    @Transactional
-    public void confirm(Long userId, Long scheduleId, String seatNo) {
-        String sn = normalizeSeatNo(seatNo);
-        LocalDateTime now = LocalDateTime.now();
-
-        if (userId == null || scheduleId == null) {
-            throw new BusinessException(ErrorCode.INVALID_REQUEST);
-        }
-
-        // 0) 현재 활성 예약(HELD)을 먼저 조회해서 reservationId 확보
-        //    (이미 CONFIRMED면 멱등 성공 처리)
-        var cur = reservationRepository.findActiveLite(scheduleId, sn);
-        if (cur == null) throw new BusinessException(ErrorCode.HOLD_NOT_FOUND);
-
-        if ("CONFIRMED".equals(cur.getStatus())) {
-            // 이미 확정됨 -> 멱등 성공
-            return;
-        }
-
-        if (!"HELD".equals(cur.getStatus())) {
-            throw new BusinessException(ErrorCode.HOLD_NOT_FOUND);
-        }
-
-        // 소유자/만료 검증 (기존 정책 유지)
-        if (cur.getUserId() != null && !cur.getUserId().equals(userId)) {
-            throw new BusinessException(ErrorCode.HOLD_NOT_FOUND); // 정책상 소유자 아니면 not found
-        }
-
-        if (cur.getExpiresAt() == null || !cur.getExpiresAt().isAfter(now)) {
-            reservationRepository.expireIfExpired(scheduleId, sn, now);
-            throw new BusinessException(ErrorCode.HOLD_EXPIRED);
-        }
-
-        Long reservationId = cur.getId();
-        if (reservationId == null) {
-            throw new BusinessException(ErrorCode.HOLD_NOT_FOUND);
-        }
-
-        // 1) DB 최종 방어막을 먼저 시도 (좌석당 1명만 통과)
-        //    중복확정/재처리 -> PK 충돌 -> 멱등 성공 처리
-        try {
-            confirmedSeatGuardStore.acquire(scheduleId, sn, reservationId);
-        } catch (DataIntegrityViolationException e) {
-            // PK(schedule_id, seat_no) 충돌 = 이미 확정됨(또는 재처리)
-            return; // 멱등 성공 처리
-        }
-
-        // 2) 원자적 confirm (내 HELD만 CONFIRMED로)
-        int updated = reservationRepository.confirmHold(userId, scheduleId, sn, now);
-        if (updated == 0) {
-            // 여기까지 왔는데 updated=0이면: 직전에 상태가 바뀐 케이스
-            // 정책상 not found로 처리
-            throw new BusinessException(ErrorCode.HOLD_NOT_FOUND);
-        }
+    /**
+     * 확정 1건 = DB 왕복 1번 (sp_confirm_hold_v1): active row 잠금, 소유자/만료 검증, guard insert, HELD -> CONFIRMED
+     * 호출자 트랜잭션 안에서만, 비즈니스 실패는 예외 대신 결과로
+     * -> 배치 확정에서 한 건 실패가 트랜잭션 전체를 rollback-only 로 만들지 않음
+     *
+     * @param sn 정규화된 좌석 번호
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ConfirmOutcome confirmHold(Long userId, Long scheduleId, String sn, LocalDateTime now) {
+        return ConfirmOutcome.valueOf(confirmedSeatGuardStore.confirmHold(scheduleId, sn, userId, now));
     }
 
     // ---------- CANCEL (사용자 액션 전용) ----------
@@ -169,6 +135,49 @@ public class ReservationService {
         return updated > 0;
     }
 
+    // ---------- EXPIRE (deadline 기반) ----------
+    /**
+     * deadline 이 지난 후보들 중 아직 HELD 인 것만 EXPIRED 처리.
+     * PK IN (...) 조회/갱신이라 reservation 테이블 크기와 무관하게 후보 수에만 비례.
+     * lease 의 fencing token 이 밀렸으면(다른 노드가 shard 를 가져감) 아무것도 하지 않음.
+     *
+     * @return 실제로 만료된 HOLD (락 해제/SSE 발행 대상)
+     */
+    @Transactional
+    public List<ExpiringHold> expireDue(ShardLease lease, List<ExpiringHold> candidates, LocalDateTime now) {
+        if (candidates == null || candidates.isEmpty()) return List.of();
+        if (!jobFenceStore.validate(lease.job(), lease.shard(), lease.fencingToken())) return List.of();
+
+        Map<Long, ExpiringHold> byId = new LinkedHashMap<>();
+        for (ExpiringHold h : candidates) {
+            byId.putIfAbsent(h.reservationId(), h);
+        }
+
+        List<Long> due = reservationRepository.lockDueHoldIds(new ArrayList<>(byId.keySet()), now);
+        if (due.isEmpty()) return List.of();
+
+        reservationRepository.expireByIds(due, now);
+        return due.stream().map(byId::get).toList();
+    }
+
+    /**
+     * fallback sweep: deadline 저장소에서 빠진 HOLD(Redis 유실 등)를 DB 기준으로 정리 (shard 단위)
+     */
+    @Transactional
+    public List<ExpiringHold> expireOverdue(ShardLease lease, int shardCount, LocalDateTime now, int limit) {
+        if (!jobFenceStore.validate(lease.job(), lease.shard(), lease.fencingToken())) return List.of();
+
+        var rows = reservationRepository.lockExpiredHolds(now, lease.shard(), shardCount, limit);
+        if (rows.isEmpty()) return List.of();
+
+        List<Long> ids = rows.stream().map(ReservationJpaRepository.ExpiredHoldRow::getId).toList();
+        reservationRepository.expireByIds(ids, now);
+
+        return rows.stream()
+                .map(r -> new ExpiringHold(r.getId(), r.getScheduleId(), r.getUserId(), r.getSeatNo()))
+                .toList();
+    }
+
     // ---------- 읽기 ----------
     @Transactional(readOnly = true)
     public void assertValidHoldOwner(Long userId, Long scheduleId, String seatNo) {
@@ -195,4 +204,4 @@ public class ReservationService {
         String sn = seatNo.trim().toUpperCase();
         return reservationRepository.countValidHold(userId, scheduleId, sn, now) > 0;
     }
-}
\ No newline at end of file
+}
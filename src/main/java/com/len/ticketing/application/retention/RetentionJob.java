@@ -0,0 +1,238 @@
+package com.len.ticketing.application.retention;
+
+import com.len.ticketing.application.job.JobCoordinator;
+import com.len.ticketing.application.job.JobRunner;
+import com.len.ticketing.domain.job.ShardLease;
+import com.len.ticketing.infra.job.JobFenceStore;
+import com.len.ticketing.infra.outbox.OutboxEventRepository;
+import com.len.ticketing.infra.outbox.OutboxEventRepository.ArchiveRow;
+import com.len.ticketing.infra.retention.RetentionArchive;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오래된 PUBLISHED outbox_event / consumer_dedup 삭제 (hot working set 을 보관 기간만큼으로 유지).
+ *
+ * - 작은 배치로 keyset 삭제 (published_at / processed_at 인덱스 range) -> 긴 트랜잭션, 큰 undo, replication lag 없음
+ * - 배치 사이 pause-ms 만큼 쉬고 한 번 실행에 max-batches-per-run 까지만 -> backlog 가 커도 여러 tick 에 나눠서 따라잡음
+ * - outbox 는 archive.dir 이 있으면 먼저 파일로 내보내고, 내보내기에 실패한 배치는 지우지 않음
+ * - PENDING / FAILED outbox 는 건드리지 않음 (FAILED 는 운영자가 확인 후 처리)
+ *
+ * 클러스터에서 1개 노드만 돌도록 "retention" job 의 shard 0 lease 를 가진 노드만 실행, 삭제 트랜잭션마다 fencing 검증.
+ *
+ * 메트릭
+ * - ticketing.retention.deleted{table}, ticketing.retention.archived{table}, ticketing.retention.archive.bytes
+ * - ticketing.retention.archive.failed, ticketing.retention.run{table}
+ * - ticketing.retention.oldest.age.seconds{table}: 남아 있는 가장 오래된 row 의 나이 (보관 기간 근처에서 유지돼야 정상)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetentionJob {
+
+    private static final String JOB = "retention";
+    private static final String TABLE_OUTBOX = "outbox_event";
+    private static final String TABLE_DEDUP = "consumer_dedup";
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobCoordinator jobCoordinator;
+    private final JobRunner jobRunner;
+    private final JobFenceStore jobFenceStore;
+    private final OutboxEventRepository outboxEventRepository;
+    private final RetentionArchive retentionArchive;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticketing.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ticketing.retention.outbox.retention-hours:72}")
+    private long outboxRetentionHours;
+
+    // Kafka 재전달이 가능한 기간(토픽 retention)보다 길어야 중복 처리가 안 생김
+    @Value("${ticketing.retention.dedup.retention-hours:168}")
+    private long dedupRetentionHours;
+
+    @Value("${ticketing.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${ticketing.retention.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${ticketing.retention.pause-ms:50}")
+    private long pauseMs;
+
+    private final AtomicLong outboxOldestAgeSec = new AtomicLong();
+    private final AtomicLong dedupOldestAgeSec = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        meterRegistry.gauge("ticketing.retention.oldest.age.seconds",
+                Tags.of("table", TABLE_OUTBOX), outboxOldestAgeSec);
+        meterRegistry.gauge("ticketing.retention.oldest.age.seconds",
+                Tags.of("table", TABLE_DEDUP), dedupOldestAgeSec);
+    }
+
+    @Scheduled(fixedDelayString = "${ticketing.retention.interval-ms:60000}")
+    public void purgeTick() {
+        if (!enabled) return;
+        jobRunner.run(JOB, this::purge);
+    }
+
+    public void purge() {
+        for (ShardLease lease : jobCoordinator.ownedShards(JOB)) {
+            if (lease.shard() != 0) continue;
+
+            try {
+                purgeOutbox(lease);
+            } catch (Exception e) {
+                log.warn("[RetentionJob] outbox purge failed", e);
+            }
+            try {
+                purgeDedup(lease);
+            } catch (Exception e) {
+                log.warn("[RetentionJob] consumer_dedup purge failed", e);
+            }
+            refreshOldestAge();
+        }
+    }
+
+    private void purgeOutbox(ShardLease lease) {
+        long startNs = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(outboxRetentionHours);
+
+        // 이미 본 row 는 다시 집지 않도록 커서 전진 (지우지 못한 row 가 있어도 같은 배치를 반복하지 않음)
+        LocalDateTime afterAt = CURSOR_START;
+        String afterId = "";
+        long total = 0;
+
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                List<ArchiveRow> rows = outboxEventRepository.findPublishedBefore(cutoff, afterAt, afterId, batchSize);
+                if (rows.isEmpty()) break;
+
+                ArchiveRow last = rows.get(rows.size() - 1);
+                afterAt = last.getPublishedAt();
+                afterId = last.getEventId();
+
+                if (retentionArchive.enabled()) {
+                    try {
+                        long bytes = retentionArchive.exportOutbox(rows);
+                        meterRegistry.counter("ticketing.retention.archived", "table", TABLE_OUTBOX).increment(rows.size());
+                        meterRegistry.counter("ticketing.retention.archive.bytes").increment(bytes);
+                    } catch (RuntimeException e) {
+                        // 디스크 가득 등 -> 이번 실행은 여기서 멈춤 (다음 tick 에 같은 row 부터 다시)
+                        meterRegistry.counter("ticketing.retention.archive.failed").increment();
+                        log.warn("[RetentionJob] outbox archive failed, batch kept. firstEventId={}",
+                                rows.get(0).getEventId(), e);
+                        break;
+                    }
+                }
+
+                List<String> ids = rows.stream().map(ArchiveRow::getEventId).toList();
+                Integer deleted = transactionTemplate.execute(status -> {
+                    if (!jobFenceStore.validate(lease.job(), lease.shard(), lease.fencingToken())) {
+                        return null;
+                    }
+                    return outboxEventRepository.deletePublished(ids);
+                });
+                if (deleted == null) {
+                    meterRegistry.counter("ticketing.retention.fenced").increment();
+                    return;
+                }
+                total += deleted;
+                meterRegistry.counter("ticketing.retention.deleted", "table", TABLE_OUTBOX).increment(deleted);
+
+                if (rows.size() < batchSize || !pause()) break;
+            }
+        } finally {
+            meterRegistry.timer("ticketing.retention.run", "table", TABLE_OUTBOX)
+                    .record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+        }
+
+        if (total > 0) {
+            log.info("[RetentionJob] outbox purged. deleted={}, cutoff={}", total, cutoff);
+        }
+    }
+
+    private void purgeDedup(ShardLease lease) {
+        long startNs = System.nanoTime();
+        long total = 0;
+
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                // processed_at 인덱스 순서로 앞에서부터 LIMIT 만큼 -> 매 배치가 짧은 range lock
+                Integer deleted = transactionTemplate.execute(status -> {
+                    if (!jobFenceStore.validate(lease.job(), lease.shard(), lease.fencingToken())) {
+                        return null;
+                    }
+                    return jdbcTemplate.update(
+                            "DELETE FROM consumer_dedup WHERE processed_at < NOW() - INTERVAL ? HOUR " +
+                                    "ORDER BY processed_at LIMIT ?",
+                            dedupRetentionHours, batchSize
+                    );
+                });
+                if (deleted == null) {
+                    meterRegistry.counter("ticketing.retention.fenced").increment();
+                    return;
+                }
+                total += deleted;
+                meterRegistry.counter("ticketing.retention.deleted", "table", TABLE_DEDUP).increment(deleted);
+
+                if (deleted < batchSize || !pause()) break;
+            }
+        } finally {
+            meterRegistry.timer("ticketing.retention.run", "table", TABLE_DEDUP)
+                    .record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+        }
+
+        if (total > 0) {
+            log.info("[RetentionJob] consumer_dedup purged. deleted={}, retentionHours={}", total, dedupRetentionHours);
+        }
+    }
+
+    private void refreshOldestAge() {
+        try {
+            outboxOldestAgeSec.set(ageSeconds(outboxEventRepository.oldestPublishedAt()));
+            Timestamp oldestDedup = jdbcTemplate.queryForObject("SELECT MIN(processed_at) FROM consumer_dedup", Timestamp.class);
+            dedupOldestAgeSec.set(ageSeconds(oldestDedup == null ? null : oldestDedup.toLocalDateTime()));
+        } catch (Exception e) {
+            log.debug("[RetentionJob] oldest age refresh failed", e);
+        }
+    }
+
+    private static long ageSeconds(LocalDateTime oldest) {
+        if (oldest == null) return 0;
+        return Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds());
+    }
+
+    /**
+     * @return false 면 인터럽트(종료 중) -> 중단
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) return true;
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
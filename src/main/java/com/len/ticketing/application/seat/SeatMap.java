@@ -0,0 +1,214 @@
+package com.len.ticketing.application.seat;
+
+import com.len.ticketing.api.seat.dto.SeatLayoutResponse;
+import com.len.ticketing.api.seat.dto.SeatStatusResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * schedule 1개의 좌석 상태 스냅샷 (SeatMapSnapshotCache 의 entry lock 아래에서만 접근)
+ *
+ * - version: 마지막으로 반영한 좌석 이벤트 seq (클러스터 전역) -> 노드가 달라도 같은 버전이면 같은 상태
+ * - generation: DB 재적재 시 이벤트로 설명 안 되는 차이(drift)가 있으면 증가 -> ETag 가 바뀌어 클라이언트 재조회
+ * - change log: (version, seat index) ring -> sinceVersion 이후 바뀐 좌석만 계산
+ * - 응답용 List 는 버전별로 한 번만 만들고 재사용 (쓰기는 O(1), 읽기 폭주 시에도 복사 1번)
+ * - compact 포맷: 정적 layout(좌석번호/가격, layoutVersion 해시) + 좌석 index 순서의 점유 bitset
+ */
+final class SeatMap {
+
+    private final long[] seatIds;
+    private final String[] seatNos;
+    private final int[] prices;
+    private final boolean[] reserved;
+    private final Map<String, Integer> indexBySeatNo;
+
+    private long version;
+    private long generation;
+    private final long loadedAtMs = System.currentTimeMillis();
+
+    private final long[] logVersions;
+    private final int[] logSeats;
+    private int logHead;
+    private int logSize;
+    private long logFloor; // 이 값 미만의 sinceVersion 은 delta 불가 -> full
+
+    private final String layoutVersion;
+    private SeatLayoutResponse layout;
+
+    private List<SeatStatusResponse> view;
+    private List<SeatStatusResponse> availableView;
+    private byte[] reservedBits;
+
+    SeatMap(List<SeatStatusResponse> seats, long version, int changeLogSize) {
+        int n = seats.size();
+        this.seatIds = new long[n];
+        this.seatNos = new String[n];
+        this.prices = new int[n];
+        this.reserved = new boolean[n];
+        this.indexBySeatNo = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            SeatStatusResponse s = seats.get(i);
+            seatIds[i] = s.seatId();
+            seatNos[i] = s.seatNo();
+            prices[i] = s.price();
+            reserved[i] = s.reserved();
+            indexBySeatNo.put(s.seatNo(), i);
+        }
+        this.version = version;
+        this.logVersions = new long[changeLogSize];
+        this.logSeats = new int[changeLogSize];
+        this.logFloor = version;
+        this.layoutVersion = hashLayout();
+    }
+
+    private String hashLayout() {
+        long h = 1125899906842597L;
+        for (int i = 0; i < seatIds.length; i++) {
+            h = 31 * h + seatIds[i];
+            h = 31 * h + seatNos[i].hashCode();
+            h = 31 * h + prices[i];
+        }
+        return Long.toHexString(h);
+    }
+
+    long version() {
+        return version;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    long ageMs() {
+        return System.currentTimeMillis() - loadedAtMs;
+    }
+
+    String etag() {
+        return "\"" + generation + "-" + version + "\"";
+    }
+
+    void apply(long seq, String seatNo, boolean isReserved) {
+        version = Math.max(version, seq);
+
+        Integer idx = indexBySeatNo.get(seatNo);
+        if (idx == null || reserved[idx] == isReserved) return;
+
+        reserved[idx] = isReserved;
+        logVersions[logHead] = version;
+        logSeats[logHead] = idx;
+        logHead = (logHead + 1) % logVersions.length;
+        if (logSize == logVersions.length) {
+            // 가장 오래된 항목이 밀려남 -> 그 버전까지는 delta 로 설명 불가
+            logFloor = Math.max(logFloor, logVersions[logHead]);
+        } else {
+            logSize++;
+        }
+        view = null;
+        availableView = null;
+        reservedBits = null;
+    }
+
+    /**
+     * 재적재한 스냅샷으로 교체할 때 이전 세대/로그를 이어받음 (차이가 있으면 세대 증가 + 로그 리셋)
+     */
+    void inherit(SeatMap previous) {
+        this.version = Math.max(this.version, previous.version);
+        if (Arrays.equals(this.reserved, previous.reserved) && Arrays.equals(this.seatIds, previous.seatIds)) {
+            this.generation = previous.generation;
+            System.arraycopy(previous.logVersions, 0, this.logVersions, 0,
+                    Math.min(previous.logVersions.length, this.logVersions.length));
+            System.arraycopy(previous.logSeats, 0, this.logSeats, 0,
+                    Math.min(previous.logSeats.length, this.logSeats.length));
+            this.logHead = previous.logHead % this.logVersions.length;
+            this.logSize = Math.min(previous.logSize, this.logVersions.length);
+            this.logFloor = previous.logFloor;
+        } else {
+            this.generation = previous.generation + 1;
+            this.logHead = 0;
+            this.logSize = 0;
+            this.logFloor = this.version + 1;
+        }
+    }
+
+    int size() {
+        return seatIds.length;
+    }
+
+    String layoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * layout 은 스냅샷 수명 동안 불변 -> 배열을 그대로 공유 (호출자는 수정하면 안 됨)
+     */
+    SeatLayoutResponse layout(Long scheduleId) {
+        if (layout == null) {
+            layout = new SeatLayoutResponse(scheduleId, layoutVersion, seatIds, seatNos, prices);
+        }
+        return layout;
+    }
+
+    /**
+     * 좌석 index(layout 순서) i 가 점유면 bit i = 1 (byte i >> 3, LSB first)
+     * 버전별로 1번만 만들고 공유 -> 호출자는 수정하면 안 됨
+     */
+    byte[] reservedBits() {
+        if (reservedBits == null) {
+            byte[] bits = new byte[(reserved.length + 7) >> 3];
+            for (int i = 0; i < reserved.length; i++) {
+                if (reserved[i]) bits[i >> 3] |= (byte) (1 << (i & 7));
+            }
+            reservedBits = bits;
+        }
+        return reservedBits;
+    }
+
+    List<SeatStatusResponse> view() {
+        if (view == null) {
+            List<SeatStatusResponse> out = new ArrayList<>(seatIds.length);
+            for (int i = 0; i < seatIds.length; i++) {
+                out.add(response(i));
+            }
+            view = List.copyOf(out);
+        }
+        return view;
+    }
+
+    List<SeatStatusResponse> availableView() {
+        if (availableView == null) {
+            availableView = view().stream().filter(s -> !s.reserved()).toList();
+        }
+        return availableView;
+    }
+
+    /**
+     * @return sinceVersion 이후 바뀐 좌석의 현재 상태, log 범위 밖이면 null (-> full)
+     */
+    List<SeatStatusResponse> changedSince(long sinceVersion) {
+        if (sinceVersion < logFloor || sinceVersion > version) return null;
+        if (sinceVersion == version) return List.of();
+
+        Set<Integer> changed = new LinkedHashSet<>();
+        int oldest = (logHead - logSize + logVersions.length) % logVersions.length;
+        for (int i = 0; i < logSize; i++) {
+            int p = (oldest + i) % logVersions.length;
+            if (logVersions[p] > sinceVersion) changed.add(logSeats[p]);
+        }
+
+        List<SeatStatusResponse> out = new ArrayList<>(changed.size());
+        for (int idx : changed) {
+            out.add(response(idx));
+        }
+        return out;
+    }
+
+    private SeatStatusResponse response(int i) {
+        return new SeatStatusResponse(seatIds[i], seatNos[i], prices[i], reserved[i]);
+    }
+}
@@ -0,0 +1,214 @@
+package com.len.ticketing.application.seat;
+
+import com.len.ticketing.api.seat.dto.SeatLayoutResponse;
+import com.len.ticketing.api.seat.dto.SeatStatusResponse;
+import com.len.ticketing.application.job.JobRunner;
+import com.len.ticketing.infra.sse.SeatChangeListener;
+import com.len.ticketing.infra.sse.SeatChangedEvent;
+import com.len.ticketing.infra.sse.SeatSseHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * schedule 별 좌석 상태 스냅샷 캐시.
+ *
+ * - 최초 조회 시 DB 에서 적재 (요청이 몰려도 적재는 1번, 나머지는 같은 결과를 기다림)
+ * - 이후에는 SeatSseHub 의 좌석 이벤트(seq)로 증분 반영 -> 조회는 DB 를 안 탐
+ * - max-age 가 지나면 요청 1개가 재적재(그동안 다른 요청은 기존 스냅샷 응답), 이벤트 유실로 생긴 drift 보정
+ * - 적재 중 들어온 이벤트는 버퍼에 모았다가 적재 결과에 덧씌움 (이벤트는 절대 상태라 중복 반영해도 안전)
+ * - 좌석 상태를 바꾸는 DB 변경은 모두 좌석 이벤트를 발행해야 함 (이벤트 없는 변경은 max-age 까지 반영 안 됨)
+ * - idle-evict-ms 동안 조회가 없던 schedule 은 제거 (지난 공연 스냅샷이 메모리에 계속 남지 않게)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatMapSnapshotCache implements SeatChangeListener {
+
+    public record Snapshot(String etag, long version, List<SeatStatusResponse> seats) {}
+
+    public record Delta(String etag, long version, boolean full, List<SeatStatusResponse> seats) {}
+
+    public record Bitmap(String etag, long version, String layoutVersion, int seatCount, byte[] reservedBits) {}
+
+    private record BufferedChange(long seq, String seatNo, boolean reserved) {}
+
+    private static final class Entry {
+        SeatMap map;                                   // guarded by this
+        List<BufferedChange> buffered;                 // 적재 중에만 non-null
+        CompletableFuture<SeatMap> loading;
+        volatile long lastAccessMs;
+    }
+
+    private static final String JOB_EVICT = "seat-snapshot-evict";
+
+    private final SeatQueryService seatQueryService;
+    private final SeatSseHub seatSseHub;
+    private final JobRunner jobRunner;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${ticketing.seat.snapshot.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    @Value("${ticketing.seat.snapshot.change-log-size:4096}")
+    private int changeLogSize;
+
+    @Value("${ticketing.seat.snapshot.idle-evict-ms:600000}")
+    private long idleEvictMs;
+
+    public Snapshot all(Long scheduleId) {
+        Entry e = entry(scheduleId);
+        SeatMap map = current(scheduleId, e);
+        synchronized (e) {
+            return new Snapshot(map.etag(), map.version(), map.view());
+        }
+    }
+
+    public Snapshot available(Long scheduleId) {
+        Entry e = entry(scheduleId);
+        SeatMap map = current(scheduleId, e);
+        synchronized (e) {
+            return new Snapshot(map.etag(), map.version(), map.availableView());
+        }
+    }
+
+    public SeatLayoutResponse layout(Long scheduleId) {
+        Entry e = entry(scheduleId);
+        SeatMap map = current(scheduleId, e);
+        synchronized (e) {
+            return map.layout(scheduleId);
+        }
+    }
+
+    public Bitmap bitmap(Long scheduleId) {
+        Entry e = entry(scheduleId);
+        SeatMap map = current(scheduleId, e);
+        synchronized (e) {
+            return new Bitmap(map.etag(), map.version(), map.layoutVersion(), map.size(), map.reservedBits());
+        }
+    }
+
+    public Delta since(Long scheduleId, long sinceVersion) {
+        Entry e = entry(scheduleId);
+        SeatMap map = current(scheduleId, e);
+        synchronized (e) {
+            List<SeatStatusResponse> changed = map.changedSince(sinceVersion);
+            if (changed == null) {
+                return new Delta(map.etag(), map.version(), true, map.view());
+            }
+            return new Delta(map.etag(), map.version(), false, changed);
+        }
+    }
+
+    @Override
+    public void onSeatChanged(Long scheduleId, long seq, SeatChangedEvent event) {
+        Entry e = entries.get(scheduleId);
+        if (e == null || event.seatNo() == null) return; // 아직 아무도 조회 안 한 schedule
+
+        String seatNo = event.seatNo().trim().toUpperCase();
+        boolean reserved = reservedOf(event);
+        synchronized (e) {
+            if (e.map != null) e.map.apply(seq, seatNo, reserved);
+            if (e.buffered != null) e.buffered.add(new BufferedChange(seq, seatNo, reserved));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ticketing.seat.snapshot.evict-interval-ms:60000}")
+    public void evictTick() {
+        jobRunner.run(JOB_EVICT, this::evictIdle);
+    }
+
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleEvictMs;
+        entries.forEach((scheduleId, e) -> {
+            synchronized (e) {
+                if (e.lastAccessMs < cutoff && e.loading == null) {
+                    entries.remove(scheduleId, e);
+                }
+            }
+        });
+    }
+
+    // ---------------- internal ----------------
+
+    private Entry entry(Long scheduleId) {
+        Entry e = entries.computeIfAbsent(scheduleId, k -> new Entry());
+        e.lastAccessMs = System.currentTimeMillis();
+        return e;
+    }
+
+    private SeatMap current(Long scheduleId, Entry e) {
+        CompletableFuture<SeatMap> future;
+        boolean loader = false;
+        synchronized (e) {
+            boolean fresh = e.map != null && e.map.ageMs() < maxAgeMs;
+            if (fresh) return e.map;
+            if (e.loading == null) {
+                e.loading = new CompletableFuture<>();
+                e.buffered = new ArrayList<>();
+                loader = true;
+            }
+            future = e.loading;
+            // 재적재 중에는 기존 스냅샷으로 응답 (stale-while-revalidate)
+            if (!loader && e.map != null) return e.map;
+        }
+
+        if (loader) {
+            load(scheduleId, e, future);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw ex;
+        }
+    }
+
+    private void load(Long scheduleId, Entry e, CompletableFuture<SeatMap> future) {
+        try {
+            // 기준 seq 를 DB 조회 "전"에 읽음 -> 이후 이벤트는 모두 seq > baseline 이고 buffered 로 들어옴
+            long baseline = seatSseHub.lastSeq(scheduleId);
+            List<SeatStatusResponse> seats = seatQueryService.getSeatStatus(scheduleId);
+
+            SeatMap loaded = new SeatMap(seats, baseline, changeLogSize);
+            synchronized (e) {
+                for (BufferedChange c : e.buffered) {
+                    loaded.apply(c.seq(), c.seatNo(), c.reserved());
+                }
+                if (e.map != null) {
+                    loaded.inherit(e.map);
+                    if (loaded.generation() != e.map.generation()) {
+                        log.info("[SeatMapSnapshotCache] drift corrected. scheduleId={}, version={}", scheduleId, loaded.version());
+                    }
+                }
+                e.map = loaded;
+                e.buffered = null;
+                e.loading = null;
+            }
+            future.complete(loaded);
+        } catch (RuntimeException ex) {
+            synchronized (e) {
+                e.buffered = null;
+                e.loading = null;
+            }
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private static boolean reservedOf(SeatChangedEvent event) {
+        // 이벤트 타입이 더 신뢰할만함 (프론트와 같은 규칙)
+        String type = event.type();
+        if ("RELEASED".equals(type) || "EXPIRED".equals(type)) return false;
+        if ("HELD".equals(type) || "CONFIRMED".equals(type)) return true;
+        return Boolean.TRUE.equals(event.reserved());
+    }
+}
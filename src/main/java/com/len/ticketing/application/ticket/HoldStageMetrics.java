@@ -0,0 +1,109 @@
+package com.len.ticketing.application.ticket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * holdSeat 단계별 계측.
+ *
+ * - ticketing.hold.stage{stage, outcome}: 단계별 소요시간 (percentile histogram -> Prometheus 에서 histogram_quantile)
+ * - ticketing.hold.db.attempts: DB insert 시도 횟수 분포
+ * - ticketing.hold.db.retry{cause}: lock timeout/deadlock 재시도
+ * - ticketing.hold (Observation): 요청 전체 구간. tracing bridge 가 붙으면 그대로 span 이 됨
+ *
+ * Timer 는 (stage, outcome) 조합을 기동 시 미리 만들어두고 재사용 -> hot path 에서 태그/Meter 조회 할당 없음.
+ */
+@Component
+public class HoldStageMetrics {
+
+    public enum Stage {
+        NORMALIZE("normalize"),
+        INVENTORY("inventory"),
+        QUEUE_GATE("queue_gate"),
+        SEAT_EXISTS("seat_exists"),
+        REDIS_LOCK("redis_lock"),
+        DB_INSERT("db_insert");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public enum Outcome {
+        OK("ok"),
+        REJECTED("rejected"),   // 비즈니스 거절 (queue 미통과, 좌석 없음, 이미 선점 등)
+        RETRY("retry"),         // lock timeout/deadlock -> 재시도
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Stage, Map<Outcome, Timer>> timers = new EnumMap<>(Stage.class);
+    private final DistributionSummary dbAttempts;
+    private final Counter lockTimeoutRetry;
+    private final Counter deadlockRetry;
+
+    public HoldStageMetrics(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+
+        for (Stage stage : Stage.values()) {
+            Map<Outcome, Timer> byOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                byOutcome.put(outcome, Timer.builder("ticketing.hold.stage")
+                        .tag("stage", stage.tag)
+                        .tag("outcome", outcome.tag)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(50_000))
+                        .maximumExpectedValue(Duration.ofSeconds(5))
+                        .register(meterRegistry));
+            }
+            timers.put(stage, byOutcome);
+        }
+
+        this.dbAttempts = DistributionSummary.builder("ticketing.hold.db.attempts")
+                .serviceLevelObjectives(1, 2, 3, 4, 5)
+                .register(meterRegistry);
+        this.lockTimeoutRetry = meterRegistry.counter("ticketing.hold.db.retry", "cause", "lock_timeout");
+        this.deadlockRetry = meterRegistry.counter("ticketing.hold.db.retry", "cause", "deadlock");
+    }
+
+    /**
+     * startNs 부터 지금까지를 기록하고 지금 시각(ns)을 돌려줌 -> 다음 단계 시작점으로 그대로 사용
+     */
+    public long record(Stage stage, Outcome outcome, long startNs) {
+        long now = System.nanoTime();
+        timers.get(stage).get(outcome).record(now - startNs, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void dbAttempts(int attempts) {
+        dbAttempts.record(attempts);
+    }
+
+    public void dbRetry(boolean deadlock) {
+        (deadlock ? deadlockRetry : lockTimeoutRetry).increment();
+    }
+
+    public Observation startObservation(boolean bypassQueue) {
+        return Observation.createNotStarted("ticketing.hold", observationRegistry)
+                .lowCardinalityKeyValue("bypass_queue", String.valueOf(bypassQueue))
+                .start();
+    }
+}
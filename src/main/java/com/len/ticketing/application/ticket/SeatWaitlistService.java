@@ -0,0 +1,139 @@
+package com.len.ticketing.application.ticket;
+
+import com.len.ticketing.application.job.JobRunner;
+import com.len.ticketing.common.exception.BusinessException;
+import com.len.ticketing.common.exception.ErrorCode;
+import com.len.ticketing.domain.queue.QueueStore;
+import com.len.ticketing.domain.ticket.SeatKey;
+import com.len.ticketing.domain.ticket.SeatWaitlistStore;
+import com.len.ticketing.infra.concert.SeatJpaRepository;
+import com.len.ticketing.infra.sse.SeatOffer;
+import com.len.ticketing.infra.sse.SeatSseHub;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 좌석 대기열.
+ *
+ * - 선점된(락 또는 offer 가 걸린) 좌석에만 대기 등록 -> 좌석이 해제(취소/만료)되면 맨 앞 대기자에게 offer-ttl 동안 독점 offer
+ * - offer 는 SSE(event: offer)로 해당 사용자 연결에만 push -> 새로고침 경쟁/폴링 대신 지정 전달
+ * - 대기 등록은 queue pass 가 있는(대기열을 통과한) 사용자만 -> offer 로 pass 없이 hold 하는 건 이미 입장 허가된 사용자뿐
+ * - offer 받은 사용자는 queue pass 없이 hold 가능 (TicketService), 다른 사용자의 hold 는 락 단계에서 거절
+ * - offer 를 안 쓰고 기한이 지나면 sweep 이 다음 대기자에게 넘김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatWaitlistService {
+
+    private static final String JOB_OFFER_SWEEP = "seat-offer-sweep";
+
+    private final SeatWaitlistStore waitlistStore;
+    private final QueueStore queueStore;
+    private final SeatJpaRepository seatRepository;
+    private final SeatSseHub seatSseHub;
+    private final JobRunner jobRunner;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticketing.queue.enabled:true}")
+    private boolean queueEnabled;
+
+    @Value("${ticketing.waitlist.max-size:50}")
+    private int maxSize;
+
+    @Value("${ticketing.waitlist.ttl-seconds:1800}")
+    private long ttlSeconds;
+
+    @Value("${ticketing.waitlist.offer-ttl-ms:30000}")
+    private long offerTtlMs;
+
+    @Value("${ticketing.waitlist.sweep-batch-size:200}")
+    private int sweepBatchSize;
+
+    /**
+     * @return 0-based 대기 순번
+     */
+    public long join(Long scheduleId, String seatNo, Long userId, String queueToken) {
+        String sn = normalize(scheduleId, seatNo, userId);
+        // offer 는 queue pass 대신 쓰이므로 등록 자체가 대기열을 건너뛰는 경로가 되지 않게
+        if (queueEnabled && (queueToken == null || queueToken.isBlank()
+                || !queueStore.validatePass(scheduleId, userId, queueToken))) {
+            throw new BusinessException(ErrorCode.QUEUE_NOT_ALLOWED);
+        }
+        if (!seatRepository.existsBySchedule_IdAndSeatNo(scheduleId, sn)) {
+            throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
+        }
+
+        // 등록 시점에 offer 하지 않음 -> 빈 좌석에 대기 등록만으로 queue pass 없는 offer 를 받는 우회 차단
+        long position = waitlistStore.join(scheduleId, sn, userId, maxSize, ttlSeconds);
+        if (position == SeatWaitlistStore.JOIN_SEAT_NOT_HELD) {
+            throw new BusinessException(ErrorCode.WAITLIST_SEAT_NOT_HELD);
+        }
+        if (position < 0) {
+            throw new BusinessException(ErrorCode.WAITLIST_FULL);
+        }
+        meterRegistry.counter("ticketing.waitlist.joined").increment();
+        return position;
+    }
+
+    public void leave(Long scheduleId, String seatNo, Long userId) {
+        String sn = normalize(scheduleId, seatNo, userId);
+        waitlistStore.leave(scheduleId, sn, userId);
+    }
+
+    public boolean hasOffer(long scheduleId, String seatNo, long userId) {
+        try {
+            return waitlistStore.hasOffer(scheduleId, seatNo, userId);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 좌석 해제 후 호출 (Redis 좌석 락을 푼 다음)
+     */
+    public void onReleased(long scheduleId, String seatNo) {
+        try {
+            offerNext(scheduleId, seatNo);
+        } catch (Exception e) {
+            log.debug("[SeatWaitlistService] offer failed. scheduleId={}, seatNo={}", scheduleId, seatNo, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ticketing.waitlist.sweep-interval-ms:1000}")
+    public void sweepTick() {
+        jobRunner.run(JOB_OFFER_SWEEP, this::sweep);
+    }
+
+    public void sweep() {
+        List<SeatKey> lapsed = waitlistStore.pollLapsedOffers(System.currentTimeMillis(), sweepBatchSize);
+        if (lapsed.isEmpty()) return;
+
+        meterRegistry.counter("ticketing.waitlist.offer", "result", "lapsed").increment(lapsed.size());
+        for (SeatKey seat : lapsed) {
+            onReleased(seat.scheduleId(), seat.seatNo());
+        }
+    }
+
+    private void offerNext(long scheduleId, String seatNo) {
+        long now = System.currentTimeMillis();
+        Long userId = waitlistStore.offerNext(scheduleId, seatNo, offerTtlMs, now);
+        if (userId == null) return;
+
+        meterRegistry.counter("ticketing.waitlist.offer", "result", "offered").increment();
+        seatSseHub.offer(new SeatOffer(scheduleId, seatNo, userId, now + offerTtlMs));
+    }
+
+    private static String normalize(Long scheduleId, String seatNo, Long userId) {
+        if (scheduleId == null || userId == null || seatNo == null || seatNo.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        return seatNo.trim().toUpperCase();
+    }
+}
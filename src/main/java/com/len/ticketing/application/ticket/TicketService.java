@@ -1,25 +1,35 @@
 package com.len.ticketing.application.ticket;
 
+import com.len.ticketing.application.inventory.InventoryService;
+import com.len.ticketing.application.reservation.ConfirmOutcome;
 import com.len.ticketing.application.reservation.ReservationService;
+import com.len.ticketing.application.ticket.HoldStageMetrics.Outcome;
+import com.len.ticketing.application.ticket.HoldStageMetrics.Stage;
 import com.len.ticketing.common.exception.BusinessException;
 import com.len.ticketing.common.exception.ErrorCode;
 import com.len.ticketing.domain.queue.QueueStore;
+import com.len.ticketing.domain.reservation.ExpiringHold;
+import com.len.ticketing.domain.reservation.HoldExpiryStore;
+import com.len.ticketing.domain.reservation.Reservation;
 import com.len.ticketing.domain.ticket.SeatLockStore;
 import com.len.ticketing.infra.concert.SeatJpaRepository;
 import com.len.ticketing.infra.sse.SeatChangedEvent;
 import com.len.ticketing.infra.sse.SeatSseHub;
+import io.micrometer.observation.Observation;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DeadlockLoserDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Service
 public class TicketService {
@@ -32,88 +42,138 @@ public class TicketService {
     private final SeatLockStore seatLockStore;
     private final ReservationService reservationService;
     private final SeatSseHub seatSseHub;
+    private final HoldExpiryStore holdExpiryStore;
+    private final HoldStageMetrics holdStageMetrics;
+    private final InventoryService inventoryService;
+    private final SeatWaitlistService seatWaitlistService;
 
     public TicketService(
             SeatJpaRepository seatRepository,
             QueueStore queueStore,
             SeatLockStore seatLockStore,
             ReservationService reservationService,
-            SeatSseHub seatSseHub
+            SeatSseHub seatSseHub,
+            HoldExpiryStore holdExpiryStore,
+            HoldStageMetrics holdStageMetrics,
+            InventoryService inventoryService,
+            SeatWaitlistService seatWaitlistService
     ) {
         this.seatRepository = seatRepository;
         this.queueStore = queueStore;
         this.seatLockStore = seatLockStore;
         this.reservationService = reservationService;
         this.seatSseHub = seatSseHub;
+        this.holdExpiryStore = holdExpiryStore;
+        this.holdStageMetrics = holdStageMetrics;
+        this.inventoryService = inventoryService;
+        this.seatWaitlistService = seatWaitlistService;
     }
 
     @Value("${ticketing.queue.enabled:true}")
     private boolean queueEnabled;
 
     public HoldResult holdSeat(Long scheduleId, String seatNo, Long userId, boolean bypassQueue, String queueToken) {
-        long t0 = System.nanoTime();
+        Observation observation = holdStageMetrics.startObservation(bypassQueue);
+        try (Observation.Scope ignored = observation.openScope()) {
+            HoldResult result = doHoldSeat(scheduleId, seatNo, userId, bypassQueue, queueToken);
+            observation.lowCardinalityKeyValue("outcome", result.success() ? "ok" : "failed");
+            return result;
+        } catch (BusinessException e) {
+            observation.lowCardinalityKeyValue("outcome", e.getErrorCode().name().toLowerCase());
+            throw e;
+        } catch (RuntimeException e) {
+            observation.lowCardinalityKeyValue("outcome", "error");
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private HoldResult doHoldSeat(Long scheduleId, String seatNo, Long userId, boolean bypassQueue, String queueToken) {
+        long t = System.nanoTime();
 
         if (scheduleId == null || userId == null || seatNo == null || seatNo.isBlank()) {
+            holdStageMetrics.record(Stage.NORMALIZE, Outcome.REJECTED, t);
             throw new BusinessException(ErrorCode.INVALID_REQUEST);
         }
 
         String sn = seatNo.trim().toUpperCase();
-        long t1 = System.nanoTime();
+        t = holdStageMetrics.record(Stage.NORMALIZE, Outcome.OK, t);
+
+        // 매진 fast path: 남은 좌석 0 이면 queue/Redis/DB 안 거치고 바로 거절
+        if (inventoryService.isSoldOut(scheduleId)) {
+            holdStageMetrics.record(Stage.INVENTORY, Outcome.REJECTED, t);
+            inventoryService.countRejected("hold");
+            throw new BusinessException(ErrorCode.SOLD_OUT);
+        }
+        t = holdStageMetrics.record(Stage.INVENTORY, Outcome.OK, t);
 
         // Queue Gate
         if (queueEnabled && !bypassQueue) {
-            if (queueToken == null || queueToken.isBlank()) {
-                if (queueStore.getPosition(scheduleId, userId) == -1L) {
-                    queueStore.enterQueue(scheduleId, userId);
+            boolean passed;
+            try {
+                passed = queueToken != null && !queueToken.isBlank()
+                        && queueStore.validatePass(scheduleId, userId, queueToken);
+                // 좌석 대기열에서 offer 받은 사용자는 pass 없이 그 좌석 hold 가능
+                if (!passed) {
+                    passed = seatWaitlistService.hasOffer(scheduleId, sn, userId);
                 }
-                throw new BusinessException(ErrorCode.QUEUE_NOT_ALLOWED);
-            }
-
-            if (!queueStore.validatePass(scheduleId, userId, queueToken)) {
-                if (queueStore.getPosition(scheduleId, userId) == -1L) {
+                if (!passed && queueStore.getPosition(scheduleId, userId) == -1L) {
                     queueStore.enterQueue(scheduleId, userId);
                 }
+            } catch (RuntimeException e) {
+                holdStageMetrics.record(Stage.QUEUE_GATE, Outcome.ERROR, t);
+                throw e;
+            }
+            if (!passed) {
+                holdStageMetrics.record(Stage.QUEUE_GATE, Outcome.REJECTED, t);
                 throw new BusinessException(ErrorCode.QUEUE_NOT_ALLOWED);
             }
+            t = holdStageMetrics.record(Stage.QUEUE_GATE, Outcome.OK, t);
         }
-        long t2 = System.nanoTime();
 
-        boolean exists = seatRepository.existsBySchedule_IdAndSeatNo(scheduleId, sn);
-        long t3 = System.nanoTime();
+        boolean exists;
+        try {
+            exists = seatRepository.existsBySchedule_IdAndSeatNo(scheduleId, sn);
+        } catch (RuntimeException e) {
+            holdStageMetrics.record(Stage.SEAT_EXISTS, Outcome.ERROR, t);
+            throw e;
+        }
         if (!exists) {
+            holdStageMetrics.record(Stage.SEAT_EXISTS, Outcome.REJECTED, t);
             throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
         }
+        t = holdStageMetrics.record(Stage.SEAT_EXISTS, Outcome.OK, t);
 
-        boolean locked = seatLockStore.lockSeat(scheduleId, sn, userId, SEAT_LOCK_TTL_SECONDS);
-        long t4 = System.nanoTime();
-
-        if ((userId % 50) == 0) {
-            System.out.printf(
-                    "holdSeat timing sn=%s total=%dms normalize=%dms queue=%dms exists=%dms lock=%dms bypass=%s enabled=%s%n",
-                    sn,
-                    (t4 - t0) / 1_000_000,
-                    (t1 - t0) / 1_000_000,
-                    (t2 - t1) / 1_000_000,
-                    (t3 - t2) / 1_000_000,
-                    (t4 - t3) / 1_000_000,
-                    bypassQueue,
-                    queueEnabled
-            );
+        boolean locked;
+        try {
+            locked = seatLockStore.lockSeat(scheduleId, sn, userId, SEAT_LOCK_TTL_SECONDS);
+        } catch (RuntimeException e) {
+            holdStageMetrics.record(Stage.REDIS_LOCK, Outcome.ERROR, t);
+            throw e;
         }
-
         if (!locked) {
+            holdStageMetrics.record(Stage.REDIS_LOCK, Outcome.REJECTED, t);
             throw new BusinessException(ErrorCode.SEAT_ALREADY_LOCKED);
         }
+        t = holdStageMetrics.record(Stage.REDIS_LOCK, Outcome.OK, t);
 
         int maxAttempts = 5;
         long backoffMs = 10;
+        int attempt = 0;
 
         try {
-            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            while (attempt < maxAttempts) {
+                attempt++;
                 try {
                     // ReservationService.hold(...) returns Reservation
                     var saved = reservationService.hold(userId, scheduleId, sn);
                     Long reservationId = saved.getId();
+                    holdStageMetrics.record(Stage.DB_INSERT, Outcome.OK, t);
+
+                    scheduleExpiry(saved);
+                    inventoryService.onHeld(scheduleId);
 
                     publishAfterCommit(
                             scheduleId,
@@ -125,12 +185,20 @@ public class TicketService {
                 } catch (DataIntegrityViolationException e) {
                     // ✅ DB 유니크 가드(좌석당 active=1 1건) 충돌 → 정상 경쟁 상황이므로 409로 변환
                     if (isUkReservationActiveSeat(e)) {
+                        holdStageMetrics.record(Stage.DB_INSERT, Outcome.REJECTED, t);
                         throw new BusinessException(ErrorCode.SEAT_ALREADY_LOCKED);
                     }
+                    holdStageMetrics.record(Stage.DB_INSERT, Outcome.ERROR, t);
                     throw e;
 
                 } catch (CannotAcquireLockException | DeadlockLoserDataAccessException e) {
-                    if (attempt == maxAttempts) throw e;
+                    if (attempt == maxAttempts) {
+                        holdStageMetrics.record(Stage.DB_INSERT, Outcome.ERROR, t);
+                        throw e;
+                    }
+                    // 시도 단위로 기록 (backoff sleep 은 다음 시도 구간에 포함되지 않게 sleep 후 시작점 갱신)
+                    holdStageMetrics.record(Stage.DB_INSERT, Outcome.RETRY, t);
+                    holdStageMetrics.dbRetry(e instanceof DeadlockLoserDataAccessException);
 
                     try {
                         Thread.sleep(backoffMs);
@@ -138,6 +206,7 @@ public class TicketService {
                         Thread.currentThread().interrupt();
                     }
                     backoffMs = Math.min(backoffMs * 2, 100);
+                    t = System.nanoTime();
                 }
             }
 
@@ -147,6 +216,8 @@ public class TicketService {
             // 락은 항상 정리 (BusinessException 포함)
             seatLockStore.releaseSeat(scheduleId, sn, userId);
             throw e;
+        } finally {
+            holdStageMetrics.dbAttempts(attempt);
         }
     }
 
@@ -207,17 +278,18 @@ public class TicketService {
                     queueStore.releasePass(sid, uid);
                 } catch (Exception ignored) {}
 
-                Long ownerAfter = null;
+                // 소유자 확인 + 해제를 script 1번으로 (내 락이었으면 true)
+                boolean ownerIsMeAfter = false;
                 try {
-                    ownerAfter = seatLockStore.getLockOwner(sid, sn);
+                    ownerIsMeAfter = seatLockStore.releaseSeat(sid, sn, uid);
                 } catch (Exception ignored) {}
 
-                boolean ownerIsMeAfter = ownerAfter != null && ownerAfter.equals(uid);
                 boolean shouldPublishRelease = canceled || ownerIsMeAfter;
 
-                try {
-                    seatLockStore.releaseSeat(sid, sn, uid);
-                } catch (Exception ignored) {}
+                if (canceled) {
+                    inventoryService.onReleased(sid, 1);
+                    seatWaitlistService.onReleased(sid, sn);
+                }
 
                 if (shouldPublishRelease) {
                     try {
@@ -241,20 +313,33 @@ public class TicketService {
         final Long uid = userId;
         final String sn = seatNo.trim().toUpperCase();
 
-        Long owner = null;
-        try {
-            owner = seatLockStore.getLockOwner(sid, sn);
-        } catch (Exception ignored) {}
-
-        if (owner == null) {
-            throw new BusinessException(ErrorCode.HOLD_NOT_FOUND);
-        }
-        if (!owner.equals(uid)) {
-            throw new BusinessException(ErrorCode.NOT_SEAT_OWNER);
+        // 소유자 검증은 sp_confirm_hold_v1 가 DB active row 기준으로 (Redis 조회 왕복 없음), 락 해제는 커밋 후
+        // HOLD_EXPIRED 도 만료 처리 자체는 커밋돼야 하므로 noRollbackFor
+        ConfirmOutcome outcome = confirmSeatInTx(sid, sn, uid);
+        if (!outcome.success()) {
+            throw new BusinessException(outcome.errorCode());
         }
+    }
 
-        reservationService.confirm(uid, sid, sn);
+    /**
+     * 배치 확정용: 호출자 트랜잭션 안에서만 (여러 건을 한 트랜잭션으로 묶음), 비즈니스 실패는 결과로 돌려줌
+     * 좌석 1건당 DB 왕복 1번 (sp_confirm_hold_v1)
+     *
+     * @param sn 정규화된 좌석 번호
+     */
+    @Transactional(propagation = Propagation.MANDATORY, noRollbackFor = BusinessException.class)
+    public ConfirmOutcome confirmSeatInTx(Long sid, String sn, Long uid) {
+        ConfirmOutcome outcome = reservationService.confirmHold(uid, sid, sn, LocalDateTime.now());
+        if (outcome.success()) {
+            afterConfirmCommit(sid, sn, uid);
+        } else if (outcome == ConfirmOutcome.HOLD_EXPIRED) {
+            // sp_confirm_hold_v1 가 row 를 EXPIRED 로 바꿨음 -> ReservationExpireJob 과 같은 해제 처리
+            afterExpiredCommit(sid, sn, uid);
+        }
+        return outcome;
+    }
 
+    private void afterConfirmCommit(Long sid, String sn, Long uid) {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
@@ -276,6 +361,42 @@ public class TicketService {
         });
     }
 
+    private void afterExpiredCommit(Long sid, String sn, Long uid) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    seatLockStore.releaseSeat(sid, sn, uid);
+                } catch (Exception ignored) {}
+
+                inventoryService.onReleased(sid, 1);
+                seatWaitlistService.onReleased(sid, sn);
+
+                try {
+                    seatSseHub.publish(
+                            sid,
+                            new SeatChangedEvent("EXPIRED", sid, sn, false, uid, LocalDateTime.now())
+                    );
+                } catch (Exception ignored) {}
+            }
+        });
+    }
+
+    /**
+     * 만료 deadline 등록 (ReservationExpireJob 이 deadline 에 맞춰 EXPIRED 처리)
+     * 실패해도 hold 자체는 성공 -> fallback sweep 이 정리
+     */
+    private void scheduleExpiry(Reservation saved) {
+        if (saved.getId() == null || saved.getExpiresAt() == null) return;
+        try {
+            long deadlineMs = saved.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            holdExpiryStore.schedule(
+                    new ExpiringHold(saved.getId(), saved.getScheduleId(), saved.getUserId(), saved.getSeatNo()),
+                    deadlineMs
+            );
+        } catch (Exception ignore) {}
+    }
+
     private void publishAfterCommit(Long scheduleId, SeatChangedEvent event) {
         if (TransactionSynchronizationManager.isActualTransactionActive()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
@@ -20,6 +20,16 @@ public enum ErrorCode {
     ALREADY_HELD(HttpStatus.CONFLICT, "ALREADY_HELD", "이미 홀드된 좌석입니다."),
     HOLD_NOT_FOUND(HttpStatus.NOT_FOUND, "HOLD_NOT_FOUND", "홀드 정보가 없습니다."),
     HOLD_EXPIRED(HttpStatus.CONFLICT, "HOLD_EXPIRED", "홀드가 만료되었습니다."),
+    SOLD_OUT(HttpStatus.CONFLICT, "SOLD_OUT", "매진되었습니다."),
+    WAITLIST_FULL(HttpStatus.CONFLICT, "WAITLIST_FULL", "좌석 대기열이 가득 찼습니다."),
+    WAITLIST_SEAT_NOT_HELD(HttpStatus.CONFLICT, "WAITLIST_SEAT_NOT_HELD", "선점되지 않은 좌석입니다. 대기 대신 바로 선점해주세요."),
+
+    // ===== 실시간 좌석(SSE) =====
+    SSE_CAPACITY_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "SSE_CAPACITY_EXCEEDED", "실시간 좌석 연결이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+
+    // ===== 확정 결과(long-poll) =====
+    CONFIRM_RESULT_NOT_FOUND(HttpStatus.NOT_FOUND, "CONFIRM_RESULT_NOT_FOUND", "확정 요청 정보가 없습니다."),
+    CONFIRM_WAIT_CAPACITY_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "CONFIRM_WAIT_CAPACITY_EXCEEDED", "확정 결과 대기 연결이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
 
     // ===== 대기열 =====
     QUEUE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "QUEUE_NOT_ALLOWED", "대기열 입장 가능 상태가 아닙니다."),
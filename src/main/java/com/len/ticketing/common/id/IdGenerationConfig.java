@@ -0,0 +1,44 @@
+package com.len.ticketing.common.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class IdGenerationConfig {
+
+    // hostname 해시 유도를 허용하는 profile (단일 노드 개발/테스트)
+    private static final Profiles DERIVE_ALLOWED = Profiles.of("local", "test");
+
+    private final Environment environment;
+
+    /**
+     * 0..31, 노드마다 달라야 함 (같은 ms 에 같은 node/seq 면 ID 충돌).
+     * 음수(미설정)는 local/test profile 에서만 hostname 기반으로 유도, 그 외에는 기동 실패
+     * -> 32 칸에 hostname 해시를 넣으면 노드 몇 개만 돼도 충돌 확률이 높음
+     */
+    @Value("${ticketing.id.node-id:-1}")
+    private int nodeId;
+
+    @PostConstruct
+    public void init() {
+        int resolved;
+        if (nodeId >= 0) {
+            resolved = nodeId;
+        } else if (environment.acceptsProfiles(DERIVE_ALLOWED)) {
+            resolved = TimeOrderedIds.deriveNodeId();
+        } else {
+            throw new IllegalStateException(
+                    "ticketing.id.node-id must be set to a unique value 0.." + TimeOrderedIds.MAX_NODE_ID
+                            + " per node (derived node ids are only allowed with the local/test profile)");
+        }
+        TimeOrderedIds.configureNode(resolved);
+        log.info("[IdGeneration] nodeId={} (configured={})", resolved, nodeId);
+    }
+}
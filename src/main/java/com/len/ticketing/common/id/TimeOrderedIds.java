@@ -0,0 +1,119 @@
+package com.len.ticketing.common.id;
+
+import java.net.InetAddress;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순서대로 증가하는 ID 생성기.
+ *
+ * - nextLong(): Snowflake 형식 (41bit ms + 5bit node + 7bit seq = 53bit)
+ *   -> JS Number(2^53) 안에 들어가서 프론트로 reservationId 를 그대로 내려도 안전
+ * - nextUuid(): UUIDv7 (48bit ms + 12bit seq + 62bit random)
+ *   -> outbox event_id / order_no 처럼 문자열 키가 필요한 곳에서 사용
+ *
+ * ✅ 둘 다 시간순 정렬이라 InnoDB B-tree 에 append 형태로 들어감 (랜덤 UUID 처럼 page split 안 남)
+ */
+public final class TimeOrderedIds {
+
+    // 2024-01-01T00:00:00Z (41bit ms -> 약 69년)
+    private static final long EPOCH_MS = 1704067200000L;
+
+    private static final int NODE_BITS = 5;
+    private static final int SEQ_BITS = 7;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQ_MASK = (1L << SEQ_BITS) - 1;
+    private static final long UUID_SEQ_MASK = 0xFFFL;
+
+    private static volatile int nodeId = 0;
+
+    private static final Object LONG_LOCK = new Object();
+    private static long lastMs = -1L;
+    private static long sequence = 0L;
+
+    private static final Object UUID_LOCK = new Object();
+    private static long uuidLastMs = -1L;
+    private static long uuidSequence = 0L;
+
+    private TimeOrderedIds() {}
+
+    public static void configureNode(int id) {
+        if (id < 0 || id > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be 0.." + MAX_NODE_ID + " but was " + id);
+        }
+        nodeId = id;
+    }
+
+    public static int nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * node-id 설정이 없을 때(local/test 전용): hostname 해시로 노드 번호 유도
+     * 노드끼리 유일하다는 보장이 없으므로 멀티 노드 배포에는 쓰지 않음 (IdGenerationConfig 가 막음)
+     */
+    public static int deriveNodeId() {
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return Math.floorMod(host.hashCode(), MAX_NODE_ID + 1);
+        } catch (Exception e) {
+            return ThreadLocalRandom.current().nextInt(MAX_NODE_ID + 1);
+        }
+    }
+
+    public static long nextLong() {
+        long ms;
+        long seq;
+        synchronized (LONG_LOCK) {
+            // 시계가 뒤로 가면 lastMs 를 그대로 써서 단조 증가 유지
+            ms = Math.max(System.currentTimeMillis(), lastMs);
+            if (ms == lastMs) {
+                sequence = (sequence + 1) & SEQ_MASK;
+                if (sequence == 0) {
+                    // 같은 ms 안에서 시퀀스 소진 -> 다음 ms 로 넘어감
+                    ms = waitNextMillis(lastMs);
+                }
+            } else {
+                sequence = 0;
+            }
+            lastMs = ms;
+            seq = sequence;
+        }
+        return ((ms - EPOCH_MS) << (NODE_BITS + SEQ_BITS))
+                | ((long) nodeId << SEQ_BITS)
+                | seq;
+    }
+
+    public static String nextUuid() {
+        long ms;
+        long seq;
+        synchronized (UUID_LOCK) {
+            ms = Math.max(System.currentTimeMillis(), uuidLastMs);
+            if (ms == uuidLastMs) {
+                uuidSequence = (uuidSequence + 1) & UUID_SEQ_MASK;
+                if (uuidSequence == 0) {
+                    // 12bit 소진 -> 논리 시각만 1ms 앞으로 (대기 없이 단조 유지)
+                    ms = uuidLastMs + 1;
+                }
+            } else {
+                uuidSequence = 0;
+            }
+            uuidLastMs = ms;
+            seq = uuidSequence;
+        }
+
+        long msb = (ms << 16) | 0x7000L | seq;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+
+    private static long waitNextMillis(long last) {
+        long now = System.currentTimeMillis();
+        while (now <= last) {
+            Thread.onSpinWait();
+            now = System.currentTimeMillis();
+        }
+        return now;
+    }
+}
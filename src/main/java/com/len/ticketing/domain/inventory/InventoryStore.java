@@ -0,0 +1,34 @@
+package com.len.ticketing.domain.inventory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * schedule 별 남은 좌석 수 (HELD/CONFIRMED 가 아닌 좌석)
+ *
+ * - adjust 는 이미 집계된 schedule 에만 반영 (집계 전이면 no-op -> reconcile 이 처음 값을 채움)
+ * - 정확한 값의 기준은 DB, 이 값은 "매진" 빠른 판정용 힌트
+ */
+public interface InventoryStore {
+
+    /**
+     * @return 남은 좌석 수, 아직 집계된 적 없으면 null
+     */
+    Long remaining(long scheduleId);
+
+    /**
+     * 여러 schedule 을 한 번에 (집계된 적 없는 schedule 은 결과에 없음)
+     */
+    Map<Long, Long> remainingAll(List<Long> scheduleIds);
+
+    void adjust(long scheduleId, long delta);
+
+    /**
+     * 현재 값이 expected 일 때만 remaining 으로 덮어씀 (compare-and-set)
+     * -> 읽은 뒤에 들어온 adjust 를 덮어써서 잃지 않음
+     *
+     * @param expected 직전에 remaining() 으로 읽은 값 (null = 아직 집계 안 됨)
+     * @return 덮어썼으면 true, 그 사이 값이 바뀌었으면 false
+     */
+    boolean resetIfUnchanged(long scheduleId, Long expected, long remaining);
+}
@@ -0,0 +1,21 @@
+package com.len.ticketing.domain.job;
+
+import java.util.List;
+
+public interface JobLeaseStore {
+
+    void heartbeat(String nodeId, long nowEpochMs);
+
+    /**
+     * aliveSinceEpochMs 이후에 heartbeat 한 노드 목록 (정렬됨)
+     */
+    List<String> liveNodes(long aliveSinceEpochMs);
+
+    /**
+     * lease 획득 또는 갱신.
+     * @return fencing token (다른 노드가 들고 있으면 null)
+     */
+    Long tryAcquire(String job, int shard, String nodeId, long ttlMs);
+
+    void release(String job, int shard, String nodeId);
+}
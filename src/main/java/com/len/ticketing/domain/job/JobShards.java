@@ -0,0 +1,22 @@
+package com.len.ticketing.domain.job;
+
+public final class JobShards {
+
+    private JobShards() {}
+
+    /**
+     * scheduleId -> shard 번호.
+     * SQL 쪽에서도 MOD(schedule_id, :shardCount) 로 같은 값을 계산하므로 규칙을 바꾸면 양쪽 다 바꿔야 함
+     */
+    public static int shardOf(long scheduleId, int shardCount) {
+        return (int) Math.floorMod(scheduleId, (long) shardCount);
+    }
+
+    /**
+     * 0 ~ slots-1 해시 공간을 shardCount 개의 연속 구간으로 나눴을 때 shard 구간의 시작 (포함)
+     * shard 구간 = [rangeStart(shard), rangeStart(shard + 1))
+     */
+    public static int rangeStart(int shard, int shardCount, int slots) {
+        return (int) ((long) shard * slots / shardCount);
+    }
+}
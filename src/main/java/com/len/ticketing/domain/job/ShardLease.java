@@ -0,0 +1,7 @@
+package com.len.ticketing.domain.job;
+
+/**
+ * job 의 shard 1개에 대한 lease.
+ * fencingToken 은 lease 를 새로 잡을 때마다 증가 -> 늦게 깨어난 이전 소유자의 DB 쓰기를 막는 데 사용
+ */
+public record ShardLease(String job, int shard, long fencingToken) {}
@@ -0,0 +1,27 @@
+package com.len.ticketing.domain.outbox;
+
+import java.time.Instant;
+
+/**
+ * confirm 요청(eventId)의 최종 결과 (consumer 가 처리를 끝낸 시점에 기록)
+ *
+ * - CONFIRMED: 확정됨 (reason=already_confirmed 면 이전에 이미 확정된 것)
+ * - REJECTED: 처리하지 않음 (reason: stale, hold_not_valid)
+ * - FAILED: 재시도를 다 써서 DLT 로 감 (reason: dead_letter)
+ */
+public record ConfirmResult(
+        String eventId,
+        Long userId,
+        Long scheduleId,
+        String seatNo,
+        Status status,
+        String reason,
+        Instant completedAt
+) {
+
+    public enum Status {
+        CONFIRMED,
+        REJECTED,
+        FAILED
+    }
+}
@@ -0,0 +1,22 @@
+package com.len.ticketing.domain.outbox;
+
+import java.util.Collection;
+
+/**
+ * confirm 결과 저장 + 노드 간 전파.
+ *
+ * 결과는 ttl 동안 eventId 로 조회 가능 (결과가 나온 뒤에 기다리기 시작한 클라이언트용),
+ * 저장과 함께 모든 노드로 전파 -> 각 노드는 자기에게 붙은 대기 요청만 깨움.
+ */
+public interface ConfirmResultStore {
+
+    /**
+     * 저장 후 전파 (저장이 먼저 -> 전파를 놓친 대기자도 조회로 찾을 수 있음)
+     */
+    void saveAll(Collection<ConfirmResult> results);
+
+    /**
+     * @return 없거나 ttl 이 지났으면 null
+     */
+    ConfirmResult find(String eventId);
+}
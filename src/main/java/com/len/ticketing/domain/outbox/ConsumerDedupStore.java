@@ -0,0 +1,22 @@
+package com.len.ticketing.domain.outbox;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * consumer 멱등용 처리 기록 (eventId 단위, window 동안만 기억).
+ *
+ * window 는 stale 판정(ticketing.confirm.max-event-age-seconds) 이상이면 충분:
+ * 그보다 오래된 재전달은 stale 로 버려지므로 기록이 없어도 중복 처리되지 않음.
+ *
+ * 처리(커밋) 후에 기록 -> 기록 전에 죽으면 재전달 시 다시 처리됨 (확정은 멱등이라 안전), 롤백용 삭제가 필요 없음.
+ */
+public interface ConsumerDedupStore {
+
+    /**
+     * @return 이미 처리된 eventId
+     */
+    Set<String> findSeen(Collection<String> eventIds);
+
+    void markSeen(Collection<String> eventIds);
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -12,10 +13,16 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.zip.CRC32;
 
 @Entity
-@Table(name = "outbox_event")
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_status_hash_retry", columnList = "status, key_hash, next_retry_at"),
+        @Index(name = "idx_outbox_key_status_created", columnList = "event_key, status, created_at"),
+        @Index(name = "idx_outbox_status_published", columnList = "status, published_at")
+})
 @Getter
 @NoArgsConstructor
 public class OutboxEvent {
@@ -30,10 +37,25 @@ public class OutboxEvent {
     @Column(name = "event_key", length = 120, nullable = false)
     private String eventKey;
 
+    // event_key 해시 (0 ~ KEY_HASH_SLOTS-1) -> publisher shard 는 이 값의 연속 구간을 담당 (같은 key 는 항상 같은 worker)
+    @Column(name = "key_hash", nullable = false)
+    private int keyHash;
+
+    // 발행 중인 worker 와 claim 기한 (기한이 지나면 다른 worker 가 다시 claim 가능)
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+
+    // JSON 인코딩 topic 은 payload, binary 인코딩 topic 은 payload_bin (둘 중 하나만 채움)
     @Lob
-    @Column(name = "payload", columnDefinition = "json", nullable = false)
+    @Column(name = "payload", columnDefinition = "json")
     private String payload;
 
+    @Column(name = "payload_bin", columnDefinition = "varbinary(512)")
+    private byte[] payloadBin;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20, nullable = false)
     private OutboxStatus status;
@@ -59,14 +81,34 @@ public class OutboxEvent {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    public static final int KEY_HASH_SLOTS = 1024;
+
+    public static int keyHashOf(String eventKey) {
+        CRC32 crc = new CRC32();
+        crc.update(eventKey.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % KEY_HASH_SLOTS);
+    }
+
     public static OutboxEvent pending(String eventId, String topic, String eventKey, String payload) {
+        OutboxEvent e = pending(eventId, topic, eventKey);
+        e.payload = payload;
+        return e;
+    }
+
+    public static OutboxEvent pendingBinary(String eventId, String topic, String eventKey, byte[] payloadBin) {
+        OutboxEvent e = pending(eventId, topic, eventKey);
+        e.payloadBin = payloadBin;
+        return e;
+    }
+
+    private static OutboxEvent pending(String eventId, String topic, String eventKey) {
         OutboxEvent e = new OutboxEvent();
         LocalDateTime now = LocalDateTime.now();
 
         e.eventId = eventId;
         e.topic = topic;
         e.eventKey = eventKey;
-        e.payload = payload;
+        e.keyHash = keyHashOf(eventKey);
 
         e.status = OutboxStatus.PENDING;
         e.retryCount = 0;
@@ -80,6 +122,23 @@ public class OutboxEvent {
         return e;
     }
 
+    /**
+     * Kafka 로 보낼 value (JSON 은 UTF-8 바이트 -> StringSerializer 로 보내던 것과 wire 상 동일)
+     */
+    public byte[] payloadBytes() {
+        return payloadBin != null ? payloadBin : payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * after-commit 즉시 발행 경로가 처리하는 동안 poller 가 집어가지 않게 next_retry_at 을 미룸
+     * (즉시 발행이 실패/유실되면 이 시각 이후 poller 가 발행)
+     */
+    public void deferPolling(long graceMs) {
+        if (graceMs > 0) {
+            this.nextRetryAt = this.createdAt.plusNanos(graceMs * 1_000_000L);
+        }
+    }
+
     public void markPublished() {
         LocalDateTime now = LocalDateTime.now();
         this.status = OutboxStatus.PUBLISHED;
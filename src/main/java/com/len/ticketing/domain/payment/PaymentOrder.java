@@ -1,5 +1,6 @@
 package com.len.ticketing.domain.payment;
 
+import com.len.ticketing.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -22,7 +23,7 @@ import java.time.LocalDateTime;
 public class PaymentOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(name = "user_id", nullable = false)
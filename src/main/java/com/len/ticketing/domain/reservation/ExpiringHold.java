@@ -0,0 +1,6 @@
+package com.len.ticketing.domain.reservation;
+
+/**
+ * 만료 예정 HOLD 1건 (expiry 스케줄 저장소에 들어가는 단위)
+ */
+public record ExpiringHold(long reservationId, long scheduleId, long userId, String seatNo) {}
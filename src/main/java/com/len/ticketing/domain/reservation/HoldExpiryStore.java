@@ -0,0 +1,13 @@
+package com.len.ticketing.domain.reservation;
+
+import java.util.List;
+
+public interface HoldExpiryStore {
+
+    void schedule(ExpiringHold hold, long expiresAtEpochMs);
+
+    /**
+     * 해당 shard 에서 deadline 이 지난 항목을 최대 limit 건 꺼냄 (꺼낸 항목은 저장소에서 제거됨)
+     */
+    List<ExpiringHold> pollDue(int shard, long nowEpochMs, int limit);
+}
@@ -1,5 +1,6 @@
 package com.len.ticketing.domain.reservation;
 
+import com.len.ticketing.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -20,7 +21,8 @@ import java.time.LocalDateTime;
 )
 public class Reservation {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY면 insert batching 불가 -> 시간순 Snowflake ID 로 채번
+    @Id @SnowflakeId
     private Long id;
 
     @Column(name = "user_id", nullable = false)
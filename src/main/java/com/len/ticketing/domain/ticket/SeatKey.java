@@ -0,0 +1,6 @@
+package com.len.ticketing.domain.ticket;
+
+/**
+ * schedule 안의 좌석 1개
+ */
+public record SeatKey(long scheduleId, String seatNo) {}
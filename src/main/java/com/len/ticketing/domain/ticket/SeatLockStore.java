@@ -1,9 +1,15 @@
 package com.len.ticketing.domain.ticket;
+
 public interface SeatLockStore {
 
     boolean lockSeat(long scheduleId, String seatNo, long userId, long ttlSeconds);
 
-    void releaseSeat(long scheduleId, String seatNo, long userId);
+    /**
+     * 소유자 확인 + 해제를 한 번에
+     *
+     * @return userId 가 소유자여서 실제로 해제했으면 true
+     */
+    boolean releaseSeat(long scheduleId, String seatNo, long userId);
 
     Long getLockOwner(long scheduleId, String seatNo);
 }
@@ -0,0 +1,38 @@
+package com.len.ticketing.domain.ticket;
+
+import java.util.List;
+
+/**
+ * 좌석별 대기열 + offer (해제된 좌석을 다음 대기자에게 잠깐 독점 제공)
+ *
+ * offer 가 걸린 동안 SeatLockStore.lockSeat 은 offer 받은 사용자만 성공
+ */
+public interface SeatWaitlistStore {
+
+    long JOIN_FULL = -1L;
+    long JOIN_SEAT_NOT_HELD = -2L;
+
+    /**
+     * 좌석 락이나 진행 중인 offer 가 있을 때만 등록 (비어 있는 좌석은 대기 없이 바로 hold 해야 함)
+     *
+     * @return 0-based 대기 순번 (이미 등록돼 있으면 기존 순번), 대기열이 maxSize 만큼 차 있으면 JOIN_FULL,
+     *         좌석이 잡혀 있지 않으면 JOIN_SEAT_NOT_HELD
+     */
+    long join(long scheduleId, String seatNo, long userId, int maxSize, long ttlSeconds);
+
+    void leave(long scheduleId, String seatNo, long userId);
+
+    /**
+     * 좌석 락도 진행 중인 offer 도 없으면 대기열 맨 앞 사용자에게 offerTtlMs 동안 offer
+     *
+     * @return offer 받은 userId, 대상이 없거나 좌석이 이미 잡혀 있으면 null
+     */
+    Long offerNext(long scheduleId, String seatNo, long offerTtlMs, long nowEpochMs);
+
+    boolean hasOffer(long scheduleId, String seatNo, long userId);
+
+    /**
+     * offer 기한이 지난 좌석을 최대 limit 건 꺼냄 (꺼낸 항목은 저장소에서 제거됨) -> 다음 대기자에게 다시 offer
+     */
+    List<SeatKey> pollLapsedOffers(long nowEpochMs, int limit);
+}
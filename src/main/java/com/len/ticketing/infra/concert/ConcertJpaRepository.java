@@ -2,7 +2,30 @@ package com.len.ticketing.infra.concert;
 
 import com.len.ticketing.domain.concert.Concert;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ConcertJpaRepository extends JpaRepository<Concert, Long> {
 
+    // 목록 응답에 필요한 컬럼만 (엔티티/영속성 컨텍스트 안 거침)
+    interface ConcertRow {
+        Long getId();
+        String getTitle();
+        String getDescription();
+    }
+
+    // keyset pagination: PK 순서로 afterId 다음부터 limit 개 (OFFSET 스캔 없음)
+    @Query(value = """
+        SELECT id          AS id,
+               title       AS title,
+               description AS description
+          FROM concert
+         WHERE id > :afterId
+         ORDER BY id
+         LIMIT :limit
+        """, nativeQuery = true)
+    List<ConcertRow> findRowsAfter(@Param("afterId") long afterId,
+                                   @Param("limit") int limit);
 }
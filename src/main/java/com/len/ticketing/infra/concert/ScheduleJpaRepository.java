@@ -2,7 +2,10 @@ package com.len.ticketing.infra.concert;
 
 import com.len.ticketing.domain.concert.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ScheduleJpaRepository extends JpaRepository<Schedule, Long> {
@@ -10,4 +13,21 @@ public interface ScheduleJpaRepository extends JpaRepository<Schedule, Long> {
      * Schedule 엔티티는 concertId 필드가 아니라 Concert(concert) 연관관계를 갖습니다.
      */
     List<Schedule> findByConcert_IdOrderByShowAtAsc(Long concertId);
-}
\ No newline at end of file
+
+    // concert_id 컬럼을 직접 읽음 -> lazy concert 프록시 초기화 없음
+    interface ScheduleRow {
+        Long getId();
+        Long getConcertId();
+        LocalDateTime getShowAt();
+    }
+
+    @Query(value = """
+        SELECT id         AS id,
+               concert_id AS concertId,
+               show_at    AS showAt
+          FROM schedule
+         WHERE concert_id = :concertId
+         ORDER BY show_at, id
+        """, nativeQuery = true)
+    List<ScheduleRow> findRowsByConcertId(@Param("concertId") Long concertId);
+}
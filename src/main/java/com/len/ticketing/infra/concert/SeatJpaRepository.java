@@ -2,7 +2,10 @@ package com.len.ticketing.infra.concert;
 
 import com.len.ticketing.domain.concert.Seat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +19,60 @@ public interface SeatJpaRepository extends JpaRepository<Seat, Long> {
 
     Optional<Seat> findBySchedule_IdAndId(Long scheduleId, Long seatId);
 
+    // 카탈로그 좌석 목록용 projection (schedule 프록시 초기화 없음)
+    interface SeatRow {
+        Long getId();
+        Long getScheduleId();
+        String getSeatNo();
+        int getPrice();
+    }
+
+    @Query(value = """
+        SELECT id          AS id,
+               schedule_id AS scheduleId,
+               seat_no     AS seatNo,
+               price       AS price
+          FROM seat
+         WHERE schedule_id = :scheduleId
+         ORDER BY seat_no
+        """, nativeQuery = true)
+    List<SeatRow> findRowsByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 남은 좌석 수 재집계용: 좌석 수 - active 예약 수 (uk_reservation_active_seat 로 좌석당 active 는 최대 1건)
+    interface RemainingRow {
+        Long getScheduleId();
+        long getRemaining();
+    }
+
+    @Query(value = """
+        SELECT s.schedule_id            AS scheduleId,
+               COUNT(*) - COUNT(r.id)   AS remaining
+          FROM seat s
+          JOIN schedule sc
+            ON sc.id = s.schedule_id
+          LEFT JOIN reservation r
+            ON r.schedule_id = s.schedule_id
+           AND r.seat_no = s.seat_no
+           AND r.active = 1
+         WHERE sc.show_at > :now
+           AND MOD(s.schedule_id, :shardCount) = :shard
+         GROUP BY s.schedule_id
+        """, nativeQuery = true)
+    List<RemainingRow> countRemaining(@Param("now") LocalDateTime now,
+                                      @Param("shard") int shard,
+                                      @Param("shardCount") int shardCount);
+
+    // countRemaining 과 같은 대상 schedule (재집계 전에 카운터를 먼저 읽어두는 용도)
+    @Query(value = """
+        SELECT sc.id
+          FROM schedule sc
+         WHERE sc.show_at > :now
+           AND MOD(sc.id, :shardCount) = :shard
+        """, nativeQuery = true)
+    List<Long> findUpcomingScheduleIds(@Param("now") LocalDateTime now,
+                                       @Param("shard") int shard,
+                                       @Param("shardCount") int shardCount);
+
     default Optional<String> findSeatNoByScheduleIdAndSeatId(Long scheduleId, Long seatId) {
         return findBySchedule_IdAndId(scheduleId, seatId).map(Seat::getSeatNo);
     }
@@ -0,0 +1,35 @@
+package com.len.ticketing.infra.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * DB 쪽 fencing token 검증.
+ *
+ * 작업 트랜잭션 안에서 가장 먼저 호출해야 함:
+ * - 더 큰(또는 같은) 토큰이면 job_fence row 를 갱신하고 row lock 을 잡음 -> 커밋까지 이전 소유자와 직렬화
+ * - 더 작은 토큰(이미 lease 를 뺏긴 노드)이면 false -> 호출자는 아무것도 쓰지 않고 빠져야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobFenceStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean validate(String job, int shard, long fencingToken) {
+        int updated = jdbcTemplate.update(
+                "UPDATE job_fence SET fencing_token = ?, updated_at = NOW(6) " +
+                        "WHERE job_name = ? AND shard_no = ? AND fencing_token <= ?",
+                fencingToken, job, shard, fencingToken
+        );
+        if (updated > 0) return true;
+
+        // 최초 사용 shard 면 row 생성 (이미 더 큰 토큰이 있으면 0 -> stale)
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO job_fence(job_name, shard_no, fencing_token, updated_at) VALUES (?, ?, ?, NOW(6))",
+                job, shard, fencingToken
+        );
+        return inserted > 0;
+    }
+}
@@ -1,21 +1,55 @@
 package com.len.ticketing.infra.kafka;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.len.ticketing.application.confirm.ConfirmCommandService;
+import com.len.ticketing.application.confirm.ConfirmRequestedCodec;
 import com.len.ticketing.application.confirm.ConfirmRequestedPayload;
-import com.len.ticketing.application.reservation.ReservationService;
+import com.len.ticketing.application.confirm.ConfirmResultService;
+import com.len.ticketing.application.reservation.ConfirmOutcome;
 import com.len.ticketing.application.ticket.TicketService;
-import com.len.ticketing.common.exception.BusinessException;
+import com.len.ticketing.domain.outbox.ConfirmResult;
+import com.len.ticketing.domain.outbox.ConsumerDedupStore;
+import com.len.ticketing.domain.ticket.SeatKey;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * ticket.confirm.requested.v1 배치 consumer.
+ *
+ * poll 1번(max-poll-records)을 한꺼번에 처리:
+ * 1) 파싱/검증, 배치 안 같은 eventId 제거
+ * 2) 이미 처리된 eventId 를 한 번에 제외 (ConsumerDedupStore, 기본 Redis TTL window)
+ * 3) group-size 단위로 트랜잭션 1개: 좌석 1건당 sp_confirm_hold_v1 호출 1번 (소유자/만료 검증 + guard + 상태 전이)
+ *    커밋 후 처리된 eventId 를 dedup 에 기록, Redis 락은 소유자 확인 + 해제 script 1번 (기록 전에 죽어도 재처리는 멱등)
+ * 4) group 트랜잭션이 실패하면(dedup 충돌, lock timeout 등) 그 group 만 건별 처리로 fallback
+ *    건별 처리에서 재시도 대상 오류가 나면 retry tier topic 으로 넘기고 계속 진행 (ConfirmRetryRouter)
+ *    넘기기까지 실패하면 BatchListenerFailedException(index) -> 앞 offset 은 커밋, 그 건부터 제자리 재시도
+ * 5) 처리가 끝난 건(확정/skip/DLT)은 결과를 ConfirmResultService 로 알림 -> long-poll 중인 클라이언트가 바로 받음
+ *    (dedup 으로 건너뛴 재전달은 이미 결과가 있으므로 다시 알리지 않음)
+ *
+ * 좌석 순서: key 가 scheduleId:seatNo 라 같은 좌석은 같은 partition -> 같은 consumer 스레드에서 offset 순서대로 처리.
+ * 한 group 에 같은 좌석이 또 나오면 procedure 가 앞 건이 바꾼 row 를 그대로 봄.
+ * concurrency 는 consumer 스레드 수 (partition 이 나눠짐, partition 수 이하로).
+ * retry topic 으로 넘어간 건은 그 좌석의 뒤 이벤트보다 늦게 처리될 수 있음 (확정은 hold 상태 기준 멱등이라 허용).
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,11 +58,18 @@ public class ConfirmRequestedConsumer {
     private static final String METRIC_SKIP = "ticketing.confirm.skip";
     private static final String METRIC_PROCESSED = "ticketing.confirm.processed";
     private static final String METRIC_RETRYABLE_ERROR = "ticketing.confirm.retryable_error";
+    private static final String METRIC_BATCH = "ticketing.confirm.batch";
+    private static final String METRIC_BATCH_SIZE = "ticketing.confirm.batch.size";
+    private static final String METRIC_TX = "ticketing.confirm.tx";
+    private static final String REASON_ALREADY_CONFIRMED = "already_confirmed";
+    private static final String REASON_DEAD_LETTER = "dead_letter";
 
-    private final ObjectMapper objectMapper;
+    private final ConfirmRequestedCodec codec;
     private final TicketService ticketService;
-    private final JdbcTemplate jdbcTemplate;
-    private final ReservationService reservationService;
+    private final ConsumerDedupStore consumerDedupStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfirmRetryRouter retryRouter;
+    private final ConfirmResultService confirmResultService;
     private final MeterRegistry meterRegistry;
 
     /**
@@ -37,90 +78,283 @@ public class ConfirmRequestedConsumer {
     @Value("${ticketing.confirm.max-event-age-seconds:120}")
     private long maxEventAgeSeconds;
 
+    // 트랜잭션 1개로 묶는 건수 (크면 커밋 횟수가 줄지만 fallback 비용과 락 보유 시간이 늘어남)
+    @Value("${ticketing.confirm.consumer.group-size:50}")
+    private int groupSize;
+
+    // retry tier 에서 지연 대기로 partition 을 멈추는 최대 시간 (넘으면 다시 poll 해서 확인)
+    @Value("${ticketing.confirm.retry.max-pause-ms:10000}")
+    private long maxPauseMs;
+
+    // 확정 트랜잭션 시작~커밋 (row/guard 락 보유 시간의 상한), mode=group|single
+    private Timer groupTxTimer;
+    private Timer singleTxTimer;
+
+    @PostConstruct
+    public void init() {
+        groupTxTimer = txTimer("group");
+        singleTxTimer = txTimer("single");
+    }
+
+    private Timer txTimer(String mode) {
+        return Timer.builder(METRIC_TX)
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private record Candidate(int index, ConsumerRecord<String, byte[]> record, ConfirmRequestedPayload evt, SeatKey seat) {}
+
     @KafkaListener(
-            topics = "ticket.confirm.requested.v1",
-            groupId = "${spring.kafka.consumer.group-id}"
+            topics = ConfirmCommandService.TOPIC,
+            groupId = "${spring.kafka.consumer.group-id}",
+            batch = "true",
+            concurrency = "${ticketing.confirm.consumer.concurrency:3}"
     )
-    public void onMessage(String payload) {
-        ConfirmRequestedPayload evt;
+    public void onBatch(List<ConsumerRecord<String, byte[]>> records) {
+        meterRegistry.summary(METRIC_BATCH_SIZE).record(records.size());
 
-        // 1) JSON 파싱
-        try {
-            evt = objectMapper.readValue(payload, ConfirmRequestedPayload.class);
-        } catch (Exception e) {
-            countSkip("invalid_payload");
-            log.warn("Skip invalid payload. payload={}", payload, e);
-            return;
+        // 1) 파싱/검증 + 배치 안 중복 제거
+        List<Candidate> candidates = new ArrayList<>(records.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConfirmRequestedPayload evt = parse(records.get(i).value());
+            if (evt == null) continue;
+            if (!seen.add(evt.eventId())) {
+                countSkip("duplicate");
+                continue;
+            }
+            candidates.add(new Candidate(i, records.get(i), evt, new SeatKey(evt.scheduleId(), evt.seatNo().trim().toUpperCase())));
         }
+        if (candidates.isEmpty()) return;
 
-        // 2) 필수 필드 검증
-        if (evt.eventId() == null || evt.eventId().isBlank()
-                || evt.scheduleId() == null
-                || evt.userId() == null
-                || evt.seatNo() == null || evt.seatNo().isBlank()) {
-            countSkip("invalid_fields");
-            log.warn("Skip invalid event fields. event={}", evt);
+        // 2) 이미 처리된 event 제외 (쿼리 1번)
+        Set<String> processed = findSeen(candidates.stream().map(c -> c.evt().eventId()).toList());
+        if (!processed.isEmpty()) {
+            candidates.removeIf(c -> {
+                if (!processed.contains(c.evt().eventId())) return false;
+                countSkip("duplicate");
+                log.debug("Duplicate event skipped. eventId={}", c.evt().eventId());
+                return true;
+            });
+        }
+
+        // 3) group 트랜잭션, 실패하면 건별 fallback
+        for (int from = 0; from < candidates.size(); from += groupSize) {
+            List<Candidate> group = candidates.subList(from, Math.min(from + groupSize, candidates.size()));
+            try {
+                confirmGroup(group);
+                meterRegistry.counter(METRIC_BATCH, "result", "committed").increment();
+            } catch (Exception e) {
+                meterRegistry.counter(METRIC_BATCH, "result", "fallback").increment();
+                log.warn("Confirm group failed, falling back to per-record. size={}, firstEventId={}",
+                        group.size(), group.get(0).evt().eventId(), e);
+
+                for (Candidate c : group) {
+                    try {
+                        processOne(c.evt(), c.seat().seatNo());
+                    } catch (Exception ex) {
+                        forwardOrFail(c, ex);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * retry tier topic 소비 (record 단위, 수동 ack, tier 별 container 는 ConfirmRetryConfig 에서 등록)
+     * not-before 전이면 nack(sleep) -> 이 tier container 의 consumer 가 잠시 멈추고 같은 record 부터 다시 받음
+     * (같은 tier 는 지연이 같아서 뒤 record 도 아직 기한 전, 다른 tier 는 container 가 달라 영향 없음)
+     */
+    public void onRetry(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        long waitMs = retryRouter.notBeforeOf(record) - System.currentTimeMillis();
+        if (waitMs > 0) {
+            ack.nack(Duration.ofMillis(Math.min(waitMs, maxPauseMs)));
             return;
         }
 
-        final String seatNo = evt.seatNo().trim().toUpperCase();
+        ConfirmRequestedPayload evt = parse(record.value());
+        if (evt != null) {
+            try {
+                processOne(evt, evt.seatNo().trim().toUpperCase());
+            } catch (Exception e) {
+                // 다음 tier 또는 DLT (전송 실패면 예외 -> ack 안 함 -> 제자리 재시도)
+                if (retryRouter.forward(record, e)) {
+                    publishResult(evt, evt.seatNo().trim().toUpperCase(), REASON_DEAD_LETTER);
+                }
+            }
+        }
+        ack.acknowledge();
+    }
+
+    private void forwardOrFail(Candidate c, Exception cause) {
+        try {
+            if (retryRouter.forward(c.record(), cause)) {
+                publishResult(c.evt(), c.seat().seatNo(), REASON_DEAD_LETTER);
+            }
+        } catch (Exception forwardError) {
+            cause.addSuppressed(forwardError);
+            throw new BatchListenerFailedException(
+                    "confirm failed and retry forward failed. eventId=" + c.evt().eventId(), cause, c.index());
+        }
+    }
+
+    /**
+     * group 전체를 트랜잭션 1개로, 실패하면 아무것도 기록되지 않아서 건별 fallback 이 그대로 재처리
+     */
+    private void confirmGroup(List<Candidate> group) {
+        long startNs = System.nanoTime();
+        List<String> skips = transactionTemplate.execute(status -> {
+            List<String> reasons = new ArrayList<>(group.size());
+            for (Candidate c : group) {
+                ConfirmRequestedPayload evt = c.evt();
+                SeatKey seat = c.seat();
+
+                if (isStale(evt.requestedAt())) {
+                    reasons.add("stale");
+                    continue;
+                }
+
+                ConfirmOutcome outcome = ticketService.confirmSeatInTx(seat.scheduleId(), seat.seatNo(), evt.userId());
+                reasons.add(skipReason(outcome));
+            }
+            return reasons;
+        });
+        groupTxTimer.record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
 
-        // 3) consumer 멱등 (이미 처리된 event면 skip)
-        int inserted = jdbcTemplate.update(
-                "INSERT IGNORE INTO consumer_dedup(event_id, processed_at) VALUES (?, NOW())",
-                evt.eventId()
-        );
-        if (inserted == 0) {
+        // 커밋 후 결과 기록
+        List<String> seen = new ArrayList<>(group.size());
+        List<ConfirmResult> results = new ArrayList<>(group.size());
+        for (int i = 0; i < group.size(); i++) {
+            ConfirmRequestedPayload evt = group.get(i).evt();
+            String reason = skips == null ? null : skips.get(i);
+            results.add(toResult(evt, group.get(i).seat().seatNo(), reason));
+            if (reason == null || REASON_ALREADY_CONFIRMED.equals(reason)) {
+                seen.add(evt.eventId());
+            }
+            if (reason == null) {
+                meterRegistry.counter(METRIC_PROCESSED).increment();
+                log.info("Confirm processed. eventId={}, scheduleId={}, seatNo={}, userId={}",
+                        evt.eventId(), evt.scheduleId(), group.get(i).seat().seatNo(), evt.userId());
+            } else {
+                countSkip(reason);
+                log.warn("Skip confirm. reason={}, eventId={}, scheduleId={}, seatNo={}, userId={}",
+                        reason, evt.eventId(), evt.scheduleId(), group.get(i).seat().seatNo(), evt.userId());
+            }
+        }
+        markSeen(seen);
+        confirmResultService.publish(results);
+    }
+
+    /**
+     * 건별 처리 (group fallback, retry tier)
+     */
+    private void processOne(ConfirmRequestedPayload evt, String seatNo) {
+        // consumer 멱등 (이미 처리된 event면 skip)
+        if (!findSeen(List.of(evt.eventId())).isEmpty()) {
             countSkip("duplicate");
             log.debug("Duplicate event skipped. eventId={}", evt.eventId());
             return;
         }
 
-        // 4) stale 이벤트 skip
+        // stale 이벤트 skip
         if (isStale(evt.requestedAt())) {
             countSkip("stale");
             log.info("Skip stale confirm. eventId={}, requestedAt={}, maxAgeSec={}",
                     evt.eventId(), evt.requestedAt(), maxEventAgeSeconds);
+            publishResult(evt, seatNo, "stale");
             return;
         }
 
-        // 5) 유효 HOLD pre-check
-        boolean validHold = reservationService.hasValidHold(
-                evt.userId(),
-                evt.scheduleId(),
-                seatNo,
-                LocalDateTime.now()
-        );
-
-        if (!validHold) {
-            countSkip("hold_not_valid");
-            log.warn("Skip invalid hold state. eventId={}, scheduleId={}, seatNo={}, userId={}",
-                    evt.eventId(), evt.scheduleId(), seatNo, evt.userId());
-            return;
-        }
-
-        // 6) 실제 확정 처리
         try {
-            ticketService.confirmSeat(evt.scheduleId(), seatNo, evt.userId());
+            // 확정 = sp_confirm_hold_v1 1번 (유효 HOLD 검증 포함, 별도 pre-check 없음)
+            long startNs = System.nanoTime();
+            ConfirmOutcome outcome = transactionTemplate.execute(status ->
+                    ticketService.confirmSeatInTx(evt.scheduleId(), seatNo, evt.userId()));
+            singleTxTimer.record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+
+            String reason = skipReason(outcome);
+            if (reason == null || REASON_ALREADY_CONFIRMED.equals(reason)) {
+                markSeen(List.of(evt.eventId()));
+            }
+            publishResult(evt, seatNo, reason);
+            if (reason != null) {
+                countSkip(reason);
+                log.warn("Skip confirm. reason={}, eventId={}, scheduleId={}, seatNo={}, userId={}",
+                        reason, evt.eventId(), evt.scheduleId(), seatNo, evt.userId());
+                return;
+            }
+
             meterRegistry.counter(METRIC_PROCESSED).increment();
             log.info("Confirm processed. eventId={}, scheduleId={}, seatNo={}, userId={}",
                     evt.eventId(), evt.scheduleId(), seatNo, evt.userId());
 
-        } catch (BusinessException e) {
-            // 비즈니스 예외는 비재시도 성격으로 처리
-            countSkip("business_exception");
-            log.warn("Skip non-retryable business error. eventId={}, code={}",
-                    evt.eventId(), e.getErrorCode());
-
         } catch (Exception e) {
-            // 재시도 가능한 오류: dedup 롤백 후 예외 재던짐(재처리 가능하게)
+            // 재시도 가능한 오류: 기록 전이라 그대로 재던지면 재처리 가능
             meterRegistry.counter(METRIC_RETRYABLE_ERROR).increment();
-            rollbackDedup(evt.eventId());
             log.error("Retryable confirm error. eventId={}", evt.eventId(), e);
             throw e;
         }
     }
 
+    /**
+     * @return 확정됐으면 null
+     *         이미 확정(재전달 등)은 already_confirmed -> dedup 기록,
+     *         hold 없음/만료/소유자 아님/다른 예약으로 판매됨은 hold_not_valid -> dedup 기록 안 함 (기존 pre-check skip 과 동일)
+     */
+    private static String skipReason(ConfirmOutcome outcome) {
+        if (outcome == ConfirmOutcome.CONFIRMED) return null;
+        if (outcome == ConfirmOutcome.ALREADY_CONFIRMED) return REASON_ALREADY_CONFIRMED;
+        return "hold_not_valid";
+    }
+
+    private void publishResult(ConfirmRequestedPayload evt, String seatNo, String reason) {
+        confirmResultService.publish(List.of(toResult(evt, seatNo, reason)));
+    }
+
+    /**
+     * skip reason -> 클라이언트에 알릴 결과 (null/already_confirmed 는 확정, dead_letter 는 실패, 나머지는 거절)
+     */
+    private static ConfirmResult toResult(ConfirmRequestedPayload evt, String seatNo, String reason) {
+        ConfirmResult.Status status;
+        if (reason == null || REASON_ALREADY_CONFIRMED.equals(reason)) {
+            status = ConfirmResult.Status.CONFIRMED;
+        } else if (REASON_DEAD_LETTER.equals(reason)) {
+            status = ConfirmResult.Status.FAILED;
+        } else {
+            status = ConfirmResult.Status.REJECTED;
+        }
+        return new ConfirmResult(evt.eventId(), evt.userId(), evt.scheduleId(), seatNo, status, reason, Instant.now());
+    }
+
+    /**
+     * @return 파싱/필수 필드 검증 실패면 null (skip 집계 후)
+     */
+    private ConfirmRequestedPayload parse(byte[] payload) {
+        ConfirmRequestedPayload evt;
+        try {
+            // JSON / binary 둘 다 (첫 바이트로 판별)
+            evt = codec.decode(payload);
+        } catch (Exception e) {
+            countSkip("invalid_payload");
+            log.warn("Skip invalid payload. payload(base64)={}",
+                    payload == null ? null : Base64.getEncoder().encodeToString(payload), e);
+            return null;
+        }
+
+        if (evt.eventId() == null || evt.eventId().isBlank()
+                || evt.scheduleId() == null
+                || evt.userId() == null
+                || evt.seatNo() == null || evt.seatNo().isBlank()) {
+            countSkip("invalid_fields");
+            log.warn("Skip invalid event fields. event={}", evt);
+            return null;
+        }
+        return evt;
+    }
+
     private boolean isStale(Instant requestedAt) {
         if (requestedAt == null) return false;
         if (maxEventAgeSeconds <= 0) return false;
@@ -132,12 +366,27 @@ public class ConfirmRequestedConsumer {
         meterRegistry.counter(METRIC_SKIP, "reason", reason).increment();
     }
 
-    private void rollbackDedup(String eventId) {
+    /**
+     * dedup 저장소 장애 시 "처리 안 됨"으로 보고 진행 (확정은 멱등이라 중복 처리돼도 결과 동일, 소비는 멈추지 않음)
+     */
+    private Set<String> findSeen(List<String> eventIds) {
         try {
-            jdbcTemplate.update("DELETE FROM consumer_dedup WHERE event_id = ?", eventId);
-            log.warn("Dedup rollback done. eventId={}", eventId);
-        } catch (Exception ex) {
-            log.error("Dedup rollback failed. eventId={}", eventId, ex);
+            return consumerDedupStore.findSeen(eventIds);
+        } catch (Exception e) {
+            meterRegistry.counter("ticketing.confirm.dedup.unavailable").increment();
+            log.warn("Dedup lookup failed, processing without dedup. size={}", eventIds.size(), e);
+            return Set.of();
+        }
+    }
+
+    /**
+     * 실패해도 처리 결과에는 영향 없음 (재전달되면 다시 처리 -> 멱등)
+     */
+    private void markSeen(List<String> eventIds) {
+        try {
+            consumerDedupStore.markSeen(eventIds);
+        } catch (Exception e) {
+            log.warn("Dedup mark failed. size={}", eventIds.size(), e);
         }
     }
 }
@@ -0,0 +1,87 @@
+package com.len.ticketing.infra.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class ConfirmRetryConfig {
+
+    @Value("${ticketing.confirm.retry.partitions:3}")
+    private int partitions;
+
+    @Value("${ticketing.confirm.retry.replicas:1}")
+    private short replicas;
+
+    @Value("${ticketing.confirm.retry.concurrency:1}")
+    private int concurrency;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    /**
+     * retry tier topic + DLT 자동 생성 (KafkaAdmin)
+     */
+    @Bean
+    public KafkaAdmin.NewTopics confirmRetryTopics(ConfirmRetryRouter router) {
+        List<NewTopic> topics = new ArrayList<>();
+        for (String t : router.retryTopics()) {
+            topics.add(TopicBuilder.name(t).partitions(partitions).replicas(replicas).build());
+        }
+        topics.add(TopicBuilder.name(router.dltTopic()).partitions(partitions).replicas(replicas).build());
+        return new KafkaAdmin.NewTopics(topics.toArray(new NewTopic[0]));
+    }
+
+    /**
+     * retry tier 용: record 단위 + 수동 ack (지연 전이면 nack(sleep) 으로 consumer 를 잠시 멈춤, poll 스레드는 안 막음)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> confirmRetryListenerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(false);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        return factory;
+    }
+
+    /**
+     * tier topic 마다 container 1개 (group 도 tier 별)
+     * nack 은 그 container 의 consumer 전체(할당된 partition 모두)를 멈추므로, tier 를 한 container 에 묶으면
+     * 긴 tier 의 대기가 짧은 tier 까지 붙잡음 -> tier 별로 분리
+     */
+    @Bean
+    public ConfirmRetryContainers confirmRetryContainers(
+            @Qualifier("confirmRetryListenerFactory") ConcurrentKafkaListenerContainerFactory<Object, Object> confirmRetryListenerFactory,
+            ConfirmRetryRouter router,
+            ConfirmRequestedConsumer consumer
+    ) {
+        String[] topics = router.retryTopics();
+        List<ConcurrentMessageListenerContainer<Object, Object>> containers = new ArrayList<>(topics.length);
+        for (int i = 0; i < topics.length; i++) {
+            ConcurrentMessageListenerContainer<Object, Object> c = confirmRetryListenerFactory.createContainer(topics[i]);
+            c.getContainerProperties().setGroupId(groupId + "-retry-" + (i + 1));
+            c.getContainerProperties().setMessageListener(
+                    (AcknowledgingMessageListener<String, byte[]>) consumer::onRetry);
+            c.setConcurrency(concurrency);
+            c.setBeanName("confirmRetry-" + (i + 1));
+            containers.add(c);
+        }
+        return new ConfirmRetryContainers(containers);
+    }
+}
@@ -0,0 +1,49 @@
+package com.len.ticketing.infra.kafka;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import java.util.List;
+
+/**
+ * retry tier 별 listener container 묶음 (tier 수가 설정값이라 @KafkaListener 대신 직접 생성)
+ *
+ * tier 마다 container(= consumer) 가 따로라서 한 tier 의 nack(지연 대기) 가 다른 tier 소비를 멈추지 않음
+ * 자동 시작 여부는 container 설정(= factory 의 autoStartup, spring.kafka.listener.auto-startup)을 따름
+ */
+public class ConfirmRetryContainers implements SmartLifecycle {
+
+    private final List<ConcurrentMessageListenerContainer<Object, Object>> containers;
+
+    public ConfirmRetryContainers(List<ConcurrentMessageListenerContainer<Object, Object>> containers) {
+        this.containers = containers;
+    }
+
+    // factory 가 createContainer 때 autoStartup 을 넘겨줌 -> false 면 context 시작 때 띄우지 않음 (start() 를 직접 호출해야 함)
+    @Override
+    public boolean isAutoStartup() {
+        return containers.stream().allMatch(ConcurrentMessageListenerContainer::isAutoStartup);
+    }
+
+    @Override
+    public void start() {
+        containers.forEach(ConcurrentMessageListenerContainer::start);
+    }
+
+    @Override
+    public void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return containers.stream().anyMatch(ConcurrentMessageListenerContainer::isRunning);
+    }
+
+    // @KafkaListener container 들과 같은 단계에서 시작/정지
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE;
+    }
+}
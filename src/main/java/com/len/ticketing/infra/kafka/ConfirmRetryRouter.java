@@ -0,0 +1,159 @@
+package com.len.ticketing.infra.kafka;
+
+import com.len.ticketing.application.confirm.ConfirmCommandService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * confirm 재시도 topic 라우팅 (non-blocking retry).
+ *
+ * 재시도 대상 오류가 난 record 를 원래 partition 에서 재시도하지 않고 다음 tier topic 으로 넘김
+ * -> 같은 partition 의 다른 좌석 confirm 은 계속 진행.
+ *
+ * - tier i (1..n): {topic}.retry-{i}, delays-ms[i-1] 뒤에 다시 처리
+ * - 마지막 tier 도 실패하면 {topic}.dlt
+ * - header: 최초 실패 위치(original topic/partition/offset/timestamp), 최초 실패 시각,
+ *           마지막 예외 class/message, 시도 횟수, 처리 가능 시각(not-before)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfirmRetryRouter {
+
+    public static final String TOPIC = ConfirmCommandService.TOPIC;
+
+    static final String H_ATTEMPT = "x-retry-attempt";
+    static final String H_NOT_BEFORE = "x-retry-not-before";
+    static final String H_ORIGINAL_TOPIC = "x-original-topic";
+    static final String H_ORIGINAL_PARTITION = "x-original-partition";
+    static final String H_ORIGINAL_OFFSET = "x-original-offset";
+    static final String H_ORIGINAL_TIMESTAMP = "x-original-timestamp";
+    static final String H_FIRST_FAILURE_AT = "x-first-failure-at";
+    static final String H_EXCEPTION_CLASS = "x-exception-class";
+    static final String H_EXCEPTION_MESSAGE = "x-exception-message";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // tier 별 지연 (개수 = tier 수), 합계가 confirm.max-event-age-seconds 보다 작아야 마지막 tier 까지 stale skip 안 됨
+    @Value("${ticketing.confirm.retry.delays-ms:2000,10000,30000}")
+    private long[] delaysMs;
+
+    @Value("${ticketing.confirm.retry.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    public String[] retryTopics() {
+        String[] topics = new String[delaysMs.length];
+        for (int i = 0; i < delaysMs.length; i++) {
+            topics[i] = retryTopic(i + 1);
+        }
+        return topics;
+    }
+
+    public String dltTopic() {
+        return TOPIC + ".dlt";
+    }
+
+    /**
+     * @return 원래 topic 에서 온 record 면 0
+     */
+    public int attemptOf(ConsumerRecord<String, byte[]> record) {
+        String v = header(record.headers(), H_ATTEMPT);
+        return v == null ? 0 : Integer.parseInt(v);
+    }
+
+    /**
+     * @return 이 시각(epoch ms) 전에는 처리하지 않음, header 가 없으면 0
+     */
+    public long notBeforeOf(ConsumerRecord<String, byte[]> record) {
+        String v = header(record.headers(), H_NOT_BEFORE);
+        return v == null ? 0L : Long.parseLong(v);
+    }
+
+    /**
+     * 다음 tier(또는 DLT)로 넘기고 브로커 ack 까지 기다림
+     *
+     * @return DLT 로 보냈으면 true (더 이상 재시도 없음)
+     * @throws IllegalStateException 전송 실패 -> 호출자는 offset 을 커밋하면 안 됨 (제자리 재시도로 fallback)
+     */
+    public boolean forward(ConsumerRecord<String, byte[]> record, Exception cause) {
+        int attempt = attemptOf(record) + 1;
+        boolean dead = attempt > delaysMs.length;
+        String target = dead ? dltTopic() : retryTopic(attempt);
+        long now = System.currentTimeMillis();
+
+        ProducerRecord<String, byte[]> out = new ProducerRecord<>(target, record.key(), record.value());
+        Headers in = record.headers();
+        Headers h = out.headers();
+
+        // 최초 실패 정보는 tier 를 거쳐도 유지
+        boolean first = attempt == 1;
+        put(h, H_ORIGINAL_TOPIC, first ? record.topic() : header(in, H_ORIGINAL_TOPIC));
+        put(h, H_ORIGINAL_PARTITION, first ? String.valueOf(record.partition()) : header(in, H_ORIGINAL_PARTITION));
+        put(h, H_ORIGINAL_OFFSET, first ? String.valueOf(record.offset()) : header(in, H_ORIGINAL_OFFSET));
+        put(h, H_ORIGINAL_TIMESTAMP, first ? String.valueOf(record.timestamp()) : header(in, H_ORIGINAL_TIMESTAMP));
+        put(h, H_FIRST_FAILURE_AT, first ? String.valueOf(now) : header(in, H_FIRST_FAILURE_AT));
+
+        Throwable root = cause.getCause() != null ? cause.getCause() : cause;
+        put(h, H_EXCEPTION_CLASS, root.getClass().getName());
+        put(h, H_EXCEPTION_MESSAGE, truncate(root.getMessage()));
+        put(h, H_ATTEMPT, String.valueOf(attempt));
+        if (!dead) {
+            put(h, H_NOT_BEFORE, String.valueOf(now + delaysMs[attempt - 1]));
+        }
+
+        try {
+            kafkaTemplate.send(out).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("confirm retry forward interrupted. target=" + target, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("confirm retry forward failed. target=" + target, e);
+        }
+
+        if (dead) {
+            meterRegistry.counter("ticketing.confirm.retry.dead").increment();
+            log.error("Confirm moved to DLT. key={}, attempts={}, originalOffset={}-{}@{}, err={}",
+                    record.key(), attempt - 1, header(h, H_ORIGINAL_TOPIC), header(h, H_ORIGINAL_PARTITION),
+                    header(h, H_ORIGINAL_OFFSET), root.toString());
+        } else {
+            meterRegistry.counter("ticketing.confirm.retry.forwarded", "tier", String.valueOf(attempt)).increment();
+            log.warn("Confirm scheduled for retry. key={}, tier={}, delayMs={}, err={}",
+                    record.key(), attempt, delaysMs[attempt - 1], root.toString());
+        }
+        return dead;
+    }
+
+    private static String retryTopic(int tier) {
+        return TOPIC + ".retry-" + tier;
+    }
+
+    private static String header(Headers headers, String name) {
+        Header h = headers.lastHeader(name);
+        return h == null || h.value() == null ? null : new String(h.value(), StandardCharsets.UTF_8);
+    }
+
+    private static void put(Headers headers, String name, String value) {
+        if (value != null) {
+            headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String truncate(String s) {
+        if (s == null) return null;
+        return s.length() > 500 ? s.substring(0, 500) : s;
+    }
+}
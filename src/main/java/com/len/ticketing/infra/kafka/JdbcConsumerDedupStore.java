@@ -0,0 +1,41 @@
+package com.len.ticketing.infra.kafka;
+
+import com.len.ticketing.domain.outbox.ConsumerDedupStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * consumer dedup (MySQL consumer_dedup 테이블, ticketing.confirm.dedup.store=jdbc 일 때)
+ * 오래된 row 는 RetentionJob 이 지움
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticketing.confirm.dedup.store", havingValue = "jdbc")
+public class JdbcConsumerDedupStore implements ConsumerDedupStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<String> findSeen(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) return Set.of();
+        String in = String.join(",", Collections.nCopies(eventIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT event_id FROM consumer_dedup WHERE event_id IN (" + in + ")",
+                String.class, eventIds.toArray()
+        ));
+    }
+
+    @Override
+    public void markSeen(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) return;
+        String values = String.join(",", Collections.nCopies(eventIds.size(), "(?, NOW())"));
+        jdbcTemplate.update("INSERT IGNORE INTO consumer_dedup(event_id, processed_at) VALUES " + values, eventIds.toArray());
+    }
+}
@@ -0,0 +1,181 @@
+package com.len.ticketing.infra.outbox;
+
+import com.len.ticketing.domain.outbox.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox 즉시 발행 (fast path).
+ *
+ * - 트랜잭션 커밋 직후 Kafka 로 바로 send -> poller 주기(publish-interval-ms)만큼 기다리지 않음
+ * - send 는 요청 스레드가 아니라 sender 스레드가 함 (afterCommit 은 bounded queue 에 넣기만)
+ *   -> 브로커 메타데이터 대기(max.block.ms) 같은 send 블로킹이 HTTP 응답을 붙잡지 않음
+ * - queue(queue-capacity) / in-flight(max-in-flight) 가 넘치면 그냥 두고 poller 가 발행 (overflow)
+ * - send 성공한 eventId 는 모아서 marker 스레드가 bulk UPDATE (PUBLISHED) -> Kafka I/O 스레드에서 DB 안 탐
+ * - 실패/유실(노드 다운 포함)은 event 의 next_retry_at(= 생성 + grace) 이 지나면 OutboxPublisher 가 발행
+ *   (send 는 성공했는데 mark 만 실패한 경우 중복 발행 가능 -> consumer dedup)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int MARK_BATCH_SIZE = 500;
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long graceMs;
+    private final Semaphore inFlight;
+    private final Queue<String> acked = new ConcurrentLinkedQueue<>();
+    private final ThreadPoolExecutor sender;
+    private final ThreadPoolExecutor marker;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter overflowCounter;
+
+    public OutboxDispatcher(
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            OutboxEventRepository outboxEventRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ticketing.outbox.fast-path.enabled:true}") boolean enabled,
+            @Value("${ticketing.outbox.fast-path.grace-ms:10000}") long graceMs,
+            @Value("${ticketing.outbox.fast-path.max-in-flight:1000}") int maxInFlight,
+            @Value("${ticketing.outbox.fast-path.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.graceMs = graceMs;
+        this.inFlight = new Semaphore(maxInFlight);
+
+        this.sentCounter = meterRegistry.counter("ticketing.outbox.fast", "result", "sent");
+        this.failedCounter = meterRegistry.counter("ticketing.outbox.fast", "result", "failed");
+        this.overflowCounter = meterRegistry.counter("ticketing.outbox.fast", "result", "overflow");
+
+        // send 는 1스레드 + bounded queue -> 넘치면 AbortPolicy 로 거절받고 overflow 처리
+        this.sender = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("outbox-send-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // mark 는 1스레드 + 대기 1개 -> 실행 중에 들어온 ack 는 다음 실행이 한꺼번에 처리 (넘치는 요청은 버려도 됨)
+        this.marker = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1),
+                new CustomizableThreadFactory("outbox-mark-"),
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+
+        meterRegistry.gauge("ticketing.outbox.fast.in_flight", inFlight, s -> maxInFlight - s.availablePermits());
+        meterRegistry.gauge("ticketing.outbox.fast.queued", sender, e -> e.getQueue().size());
+    }
+
+    /**
+     * save 전에 호출: poller 유예(next_retry_at) 설정 + 커밋 후 즉시 발행 등록
+     * (롤백되면 아무것도 안 나감)
+     */
+    public void dispatchAfterCommit(OutboxEvent event) {
+        if (!enabled) return;
+
+        event.deferPolling(graceMs);
+
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            enqueue(event.getEventId(), event.getTopic(), event.getEventKey(), event.payloadBytes());
+            return;
+        }
+
+        final String eventId = event.getEventId();
+        final String topic = event.getTopic();
+        final String key = event.getEventKey();
+        final byte[] payload = event.payloadBytes();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(eventId, topic, key, payload);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 queue 는 버려도 됨 (PENDING 으로 남아 poller 가 발행)
+        sender.shutdownNow();
+        marker.shutdown();
+    }
+
+    private void enqueue(String eventId, String topic, String key, byte[] payload) {
+        try {
+            sender.execute(() -> dispatch(eventId, topic, key, payload));
+        } catch (RejectedExecutionException e) {
+            overflowCounter.increment();
+        }
+    }
+
+    private void dispatch(String eventId, String topic, String key, byte[] payload) {
+        if (!inFlight.tryAcquire()) {
+            overflowCounter.increment();
+            return;
+        }
+        try {
+            kafkaTemplate.send(topic, key, payload).whenComplete((result, ex) -> {
+                inFlight.release();
+                if (ex != null) {
+                    failedCounter.increment();
+                    log.debug("Outbox fast path send failed, poller will retry. eventId={}", eventId, ex);
+                    return;
+                }
+                sentCounter.increment();
+                acked.add(eventId);
+                marker.execute(this::markAcked);
+            });
+        } catch (Exception e) {
+            inFlight.release();
+            failedCounter.increment();
+            log.debug("Outbox fast path send rejected, poller will retry. eventId={}", eventId, e);
+        }
+    }
+
+    private void markAcked() {
+        while (!acked.isEmpty()) {
+            List<String> ids = new ArrayList<>(Math.min(acked.size(), MARK_BATCH_SIZE));
+            String id;
+            while (ids.size() < MARK_BATCH_SIZE && (id = acked.poll()) != null) {
+                ids.add(id);
+            }
+            if (ids.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markPublished(ids));
+            } catch (Exception e) {
+                // PENDING 으로 남음 -> grace 후 poller 가 다시 발행 (consumer dedup)
+                log.warn("Outbox fast path mark failed. size={}", ids.size(), e);
+            }
+        }
+    }
+}
@@ -2,20 +2,161 @@ package com.len.ticketing.infra.outbox;
 
 import com.len.ticketing.domain.outbox.OutboxEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, String> {
 
+    /**
+     * worker 담당 key_hash 구간 [hashFrom, hashTo) 에서 발행 가능한 PENDING 을 잠금
+     * - claim 중(기한 안 지남)인 row 제외
+     * - 같은 event_key 에 더 오래된 PENDING(backoff/claim 중 포함)이 있으면 제외 -> key 단위 발행 순서 보장
+     *   (배치 안에 같은 key 는 최대 1건이라 비동기로 한꺼번에 보내도 순서가 안 바뀜)
+     */
     @Query(value = """
-        SELECT * FROM outbox_event
-         WHERE status = 'PENDING'
-           AND next_retry_at <= NOW()
-         ORDER BY created_at
+        SELECT o.* FROM outbox_event o
+         WHERE o.status = 'PENDING'
+           AND o.key_hash >= :hashFrom
+           AND o.key_hash <  :hashTo
+           AND o.next_retry_at <= NOW()
+           AND (o.claim_expires_at IS NULL OR o.claim_expires_at < NOW())
+           AND NOT EXISTS (
+                SELECT 1 FROM outbox_event p
+                 WHERE p.event_key = o.event_key
+                   AND p.status = 'PENDING'
+                   AND (p.created_at < o.created_at
+                        OR (p.created_at = o.created_at AND p.event_id < o.event_id))
+           )
+         ORDER BY o.created_at
          LIMIT :limit
          FOR UPDATE SKIP LOCKED
         """, nativeQuery = true)
-    List<OutboxEvent> lockPendingBatch(@Param("limit") int limit);
+    List<OutboxEvent> lockPendingBatch(@Param("hashFrom") int hashFrom,
+                                       @Param("hashTo") int hashTo,
+                                       @Param("limit") int limit);
+
+    /**
+     * 발행 중 표시 (claimed_by + 기한) -> 커밋해서 row lock 을 풀어도 다른 worker 가 다시 집어가지 않음
+     * (worker 가 죽으면 기한 후 다시 claim 대상 -> at-least-once)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE outbox_event
+           SET claimed_by       = :worker,
+               claim_expires_at = DATE_ADD(NOW(), INTERVAL :claimSeconds SECOND)
+         WHERE event_id IN (:ids)
+        """, nativeQuery = true)
+    int claim(@Param("ids") Collection<String> ids,
+              @Param("worker") String worker,
+              @Param("claimSeconds") long claimSeconds);
+
+    /**
+     * after-commit 즉시 발행 경로용 (claim 없이 발행한 row)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE outbox_event
+           SET status           = 'PUBLISHED',
+               published_at     = NOW(),
+               last_error       = NULL,
+               claimed_by       = NULL,
+               claim_expires_at = NULL,
+               updated_at       = NOW()
+         WHERE event_id IN (:ids)
+           AND status = 'PENDING'
+        """, nativeQuery = true)
+    int markPublished(@Param("ids") Collection<String> ids);
+
+    /**
+     * claim 한 worker 만 결과 반영 (claim 기한이 지나 다른 worker 가 가져갔으면 no-op)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE outbox_event
+           SET status           = 'PUBLISHED',
+               published_at     = NOW(),
+               last_error       = NULL,
+               claimed_by       = NULL,
+               claim_expires_at = NULL,
+               updated_at       = NOW()
+         WHERE event_id IN (:ids)
+           AND status = 'PENDING'
+           AND claimed_by = :worker
+        """, nativeQuery = true)
+    int markPublishedClaimed(@Param("ids") Collection<String> ids, @Param("worker") String worker);
+
+    /**
+     * OutboxEvent.markRetryOrFail 과 같은 규칙을 bulk 로
+     * MySQL 은 SET 을 왼쪽부터 평가하고 뒤 항목은 갱신된 값을 봄 -> status/next_retry_at 은 증가된 retry_count 기준
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE outbox_event
+           SET retry_count      = retry_count + 1,
+               status           = CASE WHEN retry_count >= max_retry THEN 'FAILED' ELSE 'PENDING' END,
+               next_retry_at    = DATE_ADD(NOW(), INTERVAL LEAST(60, POW(2, LEAST(6, retry_count))) SECOND),
+               last_error       = :error,
+               claimed_by       = NULL,
+               claim_expires_at = NULL,
+               updated_at       = NOW()
+         WHERE event_id IN (:ids)
+           AND status = 'PENDING'
+           AND claimed_by = :worker
+        """, nativeQuery = true)
+    int markRetryOrFail(@Param("ids") Collection<String> ids,
+                        @Param("worker") String worker,
+                        @Param("error") String error);
+
+    // ---------------- retention ----------------
+
+    interface ArchiveRow {
+        String getEventId();
+        String getTopic();
+        String getEventKey();
+        String getPayload();
+        byte[] getPayloadBin();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getPublishedAt();
+    }
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 를 오래된 순으로 (idx_outbox_status_published range scan)
+     * 지운 만큼 앞이 비므로 다음 배치도 같은 쿼리 -> (published_at, event_id) 커서로 이미 본 row 는 건너뜀
+     */
+    @Query(value = """
+        SELECT o.event_id     AS eventId,
+               o.topic        AS topic,
+               o.event_key    AS eventKey,
+               o.payload      AS payload,
+               o.payload_bin  AS payloadBin,
+               o.created_at   AS createdAt,
+               o.published_at AS publishedAt
+          FROM outbox_event o
+         WHERE o.status = 'PUBLISHED'
+           AND o.published_at < :cutoff
+           AND (o.published_at > :afterPublishedAt
+                OR (o.published_at = :afterPublishedAt AND o.event_id > :afterEventId))
+         ORDER BY o.published_at, o.event_id
+         LIMIT :limit
+        """, nativeQuery = true)
+    List<ArchiveRow> findPublishedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                         @Param("afterPublishedAt") LocalDateTime afterPublishedAt,
+                                         @Param("afterEventId") String afterEventId,
+                                         @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM outbox_event
+         WHERE event_id IN (:ids)
+           AND status = 'PUBLISHED'
+        """, nativeQuery = true)
+    int deletePublished(@Param("ids") Collection<String> ids);
+
+    @Query(value = "SELECT MIN(published_at) FROM outbox_event WHERE status = 'PUBLISHED'", nativeQuery = true)
+    LocalDateTime oldestPublishedAt();
 }
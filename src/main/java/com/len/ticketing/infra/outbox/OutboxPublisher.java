@@ -1,27 +1,72 @@
 package com.len.ticketing.infra.outbox;
 
+import com.len.ticketing.application.job.JobCoordinator;
+import com.len.ticketing.application.job.JobRunner;
+import com.len.ticketing.domain.job.JobShards;
+import com.len.ticketing.domain.job.ShardLease;
 import com.len.ticketing.domain.outbox.OutboxEvent;
-import com.len.ticketing.domain.outbox.OutboxStatus;
+import com.len.ticketing.infra.job.JobFenceStore;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * outbox_event -> Kafka 발행.
+ *
+ * JobCoordinator 가 배정한 shard 만 처리. shard s 는 key_hash(CRC32(event_key) % 1024) 구간
+ * [s * 1024 / shardCount, (s + 1) * 1024 / shardCount) 를 담당 -> 같은 event_key 는 항상 같은 worker.
+ * shard 마다 worker pool 에서 독립적으로 돌아서 느린 shard(브로커 파티션 지연 등)가 다른 shard 를 막지 않음.
+ *
+ * shard 1회 처리:
+ * 1) claim 트랜잭션: fencing 검증 -> SKIP LOCKED 배치 -> claimed_by/claim_expires_at 기록 -> 커밋 (row lock 해제)
+ * 2) 배치 전체를 비동기 send 후 한 번에 기다림 (publish-timeout-ms) -> tick 당 처리량이 RTT 1번에 배치 크기만큼
+ * 3) 결과 트랜잭션: fencing 재검증 -> 결과별 bulk UPDATE (발행 성공 1번, 실패는 에러 메시지별 1번)
+ *
+ * 브로커를 기다리는 동안 DB 락/커넥션을 잡지 않음. 발행 도중 노드가 죽으면 claim 기한 뒤 다시 발행 (at-least-once, consumer dedup).
+ * 노드가 늘면 shard 가 나눠져서 같은 row 를 두고 SKIP LOCKED 경쟁하지 않음.
+ *
+ * key 단위 순서: 같은 event_key 에 더 오래된 PENDING 이 있으면(재시도 backoff, 다른 worker claim 중 포함) 뒤 이벤트는 집지 않음.
+ * 결과 반영은 claimed_by 가 자기 것일 때만 -> claim 기한이 지나 다른 worker 가 가져간 row 를 덮어쓰지 않음.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OutboxPublisher {
 
     private final OutboxEventRepository outboxEventRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final MeterRegistry meterRegistry;
+    private final JobCoordinator jobCoordinator;
+    private final JobFenceStore jobFenceStore;
+    private final JobRunner jobRunner;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String JOB = "outbox";
 
     @Value("${ticketing.outbox.batch-size:100}")
     private int batchSize;
@@ -29,60 +74,139 @@ public class OutboxPublisher {
     @Value("${ticketing.outbox.publish-timeout-ms:3000}")
     private long publishTimeoutMs;
 
+    // claim 기한 (publish-timeout 보다 충분히 길어야 결과 반영 전에 다른 poller 가 다시 집지 않음)
+    @Value("${ticketing.outbox.claim-seconds:30}")
+    private long claimSeconds;
+
+    // shard 를 동시에 처리하는 worker 수
+    @Value("${ticketing.outbox.workers:4}")
+    private int workers;
+
+    private ExecutorService workerPool;
+
+    // 처리 중인 shard (같은 shard 는 동시에 1개만 -> 밀린 tick 은 건너뜀)
+    private final Set<Integer> inProgress = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        workerPool = Executors.newFixedThreadPool(Math.max(1, workers), new CustomizableThreadFactory("outbox-worker-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
     @Scheduled(fixedDelayString = "${ticketing.outbox.publish-interval-ms:300}")
-    @Transactional
+    public void publishTick() {
+        jobRunner.run("outbox-publish", this::publish);
+    }
+
     public void publish() {
         meterRegistry.counter("ticketing.outbox.publish.tick").increment();
 
-        final long startNs = System.nanoTime();
+        for (ShardLease lease : jobCoordinator.ownedShards(JOB)) {
+            if (!inProgress.add(lease.shard())) {
+                meterRegistry.counter("ticketing.outbox.batch", "result", "busy").increment();
+                continue;
+            }
+            try {
+                workerPool.execute(() -> {
+                    try {
+                        publishShard(lease);
+                    } catch (Exception e) {
+                        log.warn("Outbox shard publish failed. shard={}", lease.shard(), e);
+                    } finally {
+                        inProgress.remove(lease.shard());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                inProgress.remove(lease.shard());
+            }
+        }
+    }
 
-        int success = 0;
-        int retry = 0;
-        int failed = 0;
+    private void publishShard(ShardLease lease) {
+        final String worker = workerId(lease);
+        final long startNs = System.nanoTime();
 
         try {
-            List<OutboxEvent> batch = outboxEventRepository.lockPendingBatch(batchSize);
+            List<OutboxEvent> batch = transactionTemplate.execute(status -> claim(lease, worker));
 
-            if (batch == null || batch.isEmpty()) {
+            if (batch == null) {
+                meterRegistry.counter("ticketing.outbox.batch", "result", "fenced").increment();
+                return;
+            }
+            if (batch.isEmpty()) {
                 meterRegistry.counter("ticketing.outbox.batch", "result", "empty").increment();
                 return;
             }
 
             meterRegistry.summary("ticketing.outbox.batch.size").record(batch.size());
 
+            // --- 배치 전체 send -> 한 번에 대기 ---
+            List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
             for (OutboxEvent e : batch) {
+                CompletableFuture<SendResult<String, byte[]>> f;
                 try {
-                    kafkaTemplate
-                            .send(e.getTopic(), e.getEventKey(), e.getPayload())
-                            .get(publishTimeoutMs, TimeUnit.MILLISECONDS);
+                    f = kafkaTemplate.send(e.getTopic(), e.getEventKey(), e.payloadBytes());
+                } catch (Exception ex) {
+                    // producer buffer 가득(max.block.ms) 등 send 자체가 실패
+                    f = CompletableFuture.failedFuture(ex);
+                }
+                futures.add(f);
+            }
+            kafkaTemplate.flush();
+            awaitAll(futures);
 
-                    e.markPublished();
-                    success++;
+            // --- 결과 분류 ---
+            List<String> published = new ArrayList<>();
+            Map<String, List<String>> retryByError = new LinkedHashMap<>();
+            int retry = 0;
+            int failed = 0;
 
-                } catch (Exception ex) {
-                    String err = ex.getMessage();
-                    if (err != null && err.length() > 500) {
-                        err = err.substring(0, 500);
-                    }
+            for (int i = 0; i < batch.size(); i++) {
+                OutboxEvent e = batch.get(i);
+                String err = errorOf(futures.get(i));
+                if (err == null) {
+                    published.add(e.getEventId());
+                    continue;
+                }
 
-                    // 기존 도메인 로직 사용 (retry 증가 또는 FAILED 전환)
-                    e.markRetryOrFail(err);
-
-                    if (e.getStatus() == OutboxStatus.FAILED) {
-                        failed++;
-                        log.error("Outbox publish failed permanently. eventId={}, topic={}, key={}, retryCount={}, err={}",
-                                e.getEventId(), e.getTopic(), e.getEventKey(), e.getRetryCount(), err);
-                    } else {
-                        retry++;
-                        log.warn("Outbox publish retry scheduled. eventId={}, topic={}, key={}, retryCount={}, nextRetryAt={}, err={}",
-                                e.getEventId(), e.getTopic(), e.getEventKey(), e.getRetryCount(), e.getNextRetryAt(), err);
-                    }
+                retryByError.computeIfAbsent(err, k -> new ArrayList<>()).add(e.getEventId());
+
+                // markRetryOrFail 과 같은 규칙 (retry_count + 1 >= max_retry -> FAILED)
+                if (e.getRetryCount() + 1 >= e.getMaxRetry()) {
+                    failed++;
+                    log.error("Outbox publish failed permanently. eventId={}, topic={}, key={}, retryCount={}, err={}",
+                            e.getEventId(), e.getTopic(), e.getEventKey(), e.getRetryCount() + 1, err);
+                } else {
+                    retry++;
+                    log.warn("Outbox publish retry scheduled. eventId={}, topic={}, key={}, retryCount={}, err={}",
+                            e.getEventId(), e.getTopic(), e.getEventKey(), e.getRetryCount() + 1, err);
                 }
             }
 
-            outboxEventRepository.saveAll(batch);
+            // --- 결과별 bulk UPDATE ---
+            Boolean applied = transactionTemplate.execute(status -> {
+                // 그 사이 lease 를 뺏겼으면 반영하지 않음 -> claim 기한 후 새 소유자가 다시 발행
+                if (!jobFenceStore.validate(lease.job(), lease.shard(), lease.fencingToken())) {
+                    return false;
+                }
+                if (!published.isEmpty()) {
+                    outboxEventRepository.markPublishedClaimed(published, worker);
+                }
+                retryByError.forEach((err, ids) -> outboxEventRepository.markRetryOrFail(ids, worker, err));
+                return true;
+            });
+            if (!Boolean.TRUE.equals(applied)) {
+                meterRegistry.counter("ticketing.outbox.batch", "result", "fenced").increment();
+                return;
+            }
 
             // --- Metrics ---
+            int success = published.size();
             if (success > 0) {
                 meterRegistry.counter("ticketing.outbox.events", "result", "published")
                         .increment((double) success);
@@ -96,12 +220,66 @@ public class OutboxPublisher {
                         .increment((double) failed);
             }
 
-            log.info("Outbox batch done. total={}, success={}, retry={}, failed={}",
-                    (success + retry + failed), success, retry, failed);
+            log.info("Outbox batch done. shard={}, total={}, success={}, retry={}, failed={}",
+                    lease.shard(), (success + retry + failed), success, retry, failed);
 
         } finally {
             meterRegistry.timer("ticketing.outbox.publish.loop")
                     .record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
         }
     }
+
+    /**
+     * @return lease 를 뺏긴 노드(오래된 토큰)면 null, 아니면 claim 한 배치
+     */
+    private List<OutboxEvent> claim(ShardLease lease, String worker) {
+        if (!jobFenceStore.validate(lease.job(), lease.shard(), lease.fencingToken())) {
+            return null;
+        }
+        int shardCount = jobCoordinator.shardCount();
+        int hashFrom = JobShards.rangeStart(lease.shard(), shardCount, OutboxEvent.KEY_HASH_SLOTS);
+        int hashTo = JobShards.rangeStart(lease.shard() + 1, shardCount, OutboxEvent.KEY_HASH_SLOTS);
+
+        List<OutboxEvent> batch = outboxEventRepository.lockPendingBatch(hashFrom, hashTo, batchSize);
+        if (batch == null || batch.isEmpty()) return List.of();
+
+        outboxEventRepository.claim(batch.stream().map(OutboxEvent::getEventId).toList(), worker, claimSeconds);
+        return batch;
+    }
+
+    /**
+     * claimed_by 값: 노드 + shard + fencing token -> lease 를 다시 잡은 경우에도 이전 claim 과 구분됨 (최대 64자)
+     */
+    private String workerId(ShardLease lease) {
+        String id = lease.shard() + ":" + lease.fencingToken() + "@" + jobCoordinator.nodeId();
+        return id.length() > 64 ? id.substring(0, 64) : id;
+    }
+
+    private void awaitAll(List<CompletableFuture<SendResult<String, byte[]>>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(publishTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ignored) {
+            // 개별 결과는 future 별로 확인 (끝나지 않은 건 timeout 으로 재시도)
+        }
+    }
+
+    /**
+     * @return 성공이면 null, 실패면 에러 메시지 (최대 500자)
+     */
+    private String errorOf(CompletableFuture<SendResult<String, byte[]>> f) {
+        if (!f.isDone()) {
+            return "publish timeout after " + publishTimeoutMs + "ms";
+        }
+        try {
+            f.join();
+            return null;
+        } catch (CompletionException | CancellationException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            String err = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+            return err.length() > 500 ? err.substring(0, 500) : err;
+        }
+    }
 }
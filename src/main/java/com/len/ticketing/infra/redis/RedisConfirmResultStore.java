@@ -0,0 +1,86 @@
+package com.len.ticketing.infra.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.len.ticketing.domain.outbox.ConfirmResult;
+import com.len.ticketing.domain.outbox.ConfirmResultStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * confirm 결과 (Redis String + TTL, pub/sub 전파)
+ *
+ * - key: confirm:result:{eventId} = result json, TTL = ttl-seconds
+ * - channel: confirm:result (RedisConfirmResultSubscriber 가 노드마다 구독)
+ * - saveAll: Lua 1번 (건마다 SET EX 후 PUBLISH)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisConfirmResultStore implements ConfirmResultStore {
+
+    static final String CHANNEL = "confirm:result";
+    private static final String KEY_PREFIX = "confirm:result:";
+
+    // ARGV[1] = channel, ARGV[2] = ttl, ARGV[3..] = json (KEYS 와 같은 순서)
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+                    "redis.call('SET', KEYS[i], ARGV[i + 2], 'EX', ARGV[2]) " +
+                    "redis.call('PUBLISH', ARGV[1], ARGV[i + 2]) " +
+                    "end " +
+                    "return #KEYS",
+            Long.class
+    );
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+
+    // 클라이언트가 결과를 늦게 물어봐도 찾을 수 있는 기간
+    @Value("${ticketing.confirm.result.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Override
+    public void saveAll(Collection<ConfirmResult> results) {
+        if (results.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(results.size());
+        Object[] args = new Object[results.size() + 2];
+        args[0] = CHANNEL;
+        args[1] = String.valueOf(ttlSeconds);
+        int i = 2;
+        for (ConfirmResult r : results) {
+            keys.add(KEY_PREFIX + r.eventId());
+            args[i++] = toJson(r);
+        }
+        redis.execute(SAVE_SCRIPT, keys, args);
+    }
+
+    @Override
+    public ConfirmResult find(String eventId) {
+        String json = redis.opsForValue().get(KEY_PREFIX + eventId);
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, ConfirmResult.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[RedisConfirmResultStore] invalid stored result. eventId={}", eventId, e);
+            return null;
+        }
+    }
+
+    private String toJson(ConfirmResult r) {
+        try {
+            return objectMapper.writeValueAsString(r);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.len.ticketing.infra.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.len.ticketing.application.confirm.ConfirmResultService;
+import com.len.ticketing.domain.outbox.ConfirmResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * confirm:result 구독 -> 이 노드에서 기다리는 long-poll 요청만 깨움 (ConfirmResultService.deliverLocal)
+ *
+ * pub/sub 은 at-most-once -> 놓친 결과는 대기 시작 시 조회(ConfirmResultService.await) 또는 클라이언트 재요청이 찾음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisConfirmResultSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final ConfirmResultService confirmResultService;
+    private final RedisMessageListenerContainer container;
+
+    @PostConstruct
+    public void init() {
+        container.addMessageListener(this, new ChannelTopic(RedisConfirmResultStore.CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        container.removeMessageListener(this);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ConfirmResult result = objectMapper.readValue(message.getBody(), ConfirmResult.class);
+            if (result.eventId() == null) return;
+            confirmResultService.deliverLocal(result);
+        } catch (Exception e) {
+            log.warn("[RedisConfirmResultSubscriber] invalid message", e);
+        }
+    }
+}
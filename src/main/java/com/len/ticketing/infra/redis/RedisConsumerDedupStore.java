@@ -0,0 +1,82 @@
+package com.len.ticketing.infra.redis;
+
+import com.len.ticketing.domain.outbox.ConsumerDedupStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * consumer dedup (Redis String + TTL)
+ *
+ * - key: dedup:confirm:{eventId}, TTL = window
+ * - findSeen: MGET 1번, markSeen: Lua 1번 (SET EX 반복)
+ * - window: window-seconds 가 있으면 그 값, 없으면 max-event-age-seconds + 여유(시계 오차)
+ *           stale 체크를 끈 경우(max-event-age <= 0)에는 24시간
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticketing.confirm.dedup.store", havingValue = "redis", matchIfMissing = true)
+public class RedisConsumerDedupStore implements ConsumerDedupStore {
+
+    private static final String KEY_PREFIX = "dedup:confirm:";
+    private static final long CLOCK_SKEW_MARGIN_SECONDS = 60L;
+    private static final long FALLBACK_WINDOW_SECONDS = 86_400L;
+
+    private static final DefaultRedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do redis.call('SET', KEYS[i], '1', 'EX', ARGV[1]) end " +
+                    "return #KEYS",
+            Long.class
+    );
+
+    private final StringRedisTemplate redis;
+
+    @Value("${ticketing.confirm.dedup.window-seconds:0}")
+    private long windowSeconds;
+
+    @Value("${ticketing.confirm.max-event-age-seconds:120}")
+    private long maxEventAgeSeconds;
+
+    @Override
+    public Set<String> findSeen(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) return Set.of();
+
+        List<String> ids = new ArrayList<>(eventIds);
+        List<String> values = redis.opsForValue().multiGet(keys(ids));
+        if (values == null) return Set.of();
+
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) seen.add(ids.get(i));
+        }
+        return seen;
+    }
+
+    @Override
+    public void markSeen(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) return;
+        redis.execute(MARK_SCRIPT, keys(eventIds), String.valueOf(window()));
+    }
+
+    private long window() {
+        if (windowSeconds > 0) return windowSeconds;
+        if (maxEventAgeSeconds > 0) return maxEventAgeSeconds + CLOCK_SKEW_MARGIN_SECONDS;
+        return FALLBACK_WINDOW_SECONDS;
+    }
+
+    private static List<String> keys(Collection<String> eventIds) {
+        List<String> keys = new ArrayList<>(eventIds.size());
+        for (String id : eventIds) {
+            keys.add(KEY_PREFIX + id);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,80 @@
+package com.len.ticketing.infra.redis;
+
+import com.len.ticketing.domain.job.JobShards;
+import com.len.ticketing.domain.reservation.ExpiringHold;
+import com.len.ticketing.domain.reservation.HoldExpiryStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HOLD 만료 deadline 저장소 (Redis ZSET)
+ *
+ * - key: hold:expiry:z:{shard}  (shard = scheduleId % ticketing.jobs.shard-count, JobCoordinator 와 동일 규칙)
+ * - member: {reservationId}:{scheduleId}:{userId}:{seatNo}
+ * - score: expiresAt(epoch ms)
+ *
+ * pollDue 는 ZRANGEBYSCORE + ZREM 을 Lua 로 묶어서 여러 노드가 같이 돌아도 같은 항목을 두 번 꺼내지 않음.
+ * 취소/확정된 HOLD 는 굳이 지우지 않음 -> deadline 에 꺼냈을 때 DB UPDATE 가 no-op 으로 끝남.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisHoldExpiryStore implements HoldExpiryStore {
+
+    private static final String KEY_PREFIX = "hold:expiry:z:";
+
+    private static final DefaultRedisScript<List> POP_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local m = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+                    "if #m > 0 then redis.call('ZREM', KEYS[1], unpack(m)) end " +
+                    "return m",
+            List.class
+    );
+
+    private final StringRedisTemplate redis;
+
+    @Value("${ticketing.jobs.shard-count:16}")
+    private int shardCount;
+
+    private String key(int shard) {
+        return KEY_PREFIX + shard;
+    }
+
+    @Override
+    public void schedule(ExpiringHold hold, long expiresAtEpochMs) {
+        int shard = JobShards.shardOf(hold.scheduleId(), shardCount);
+        redis.opsForZSet().add(key(shard), toMember(hold), expiresAtEpochMs);
+    }
+
+    @Override
+    public List<ExpiringHold> pollDue(int shard, long nowEpochMs, int limit) {
+        List<?> raw = redis.execute(POP_DUE_SCRIPT, List.of(key(shard)), String.valueOf(nowEpochMs), String.valueOf(limit));
+        if (raw == null || raw.isEmpty()) return List.of();
+
+        List<ExpiringHold> result = new ArrayList<>(raw.size());
+        for (Object o : raw) {
+            ExpiringHold h = fromMember(String.valueOf(o));
+            if (h != null) result.add(h);
+        }
+        return result;
+    }
+
+    private String toMember(ExpiringHold h) {
+        // seatNo 는 마지막에 둬서 ':' 가 섞여도 split(limit) 로 안전하게 복원
+        return h.reservationId() + ":" + h.scheduleId() + ":" + h.userId() + ":" + h.seatNo();
+    }
+
+    private ExpiringHold fromMember(String member) {
+        String[] p = member.split(":", 4);
+        if (p.length < 4) return null;
+        try {
+            return new ExpiringHold(Long.parseLong(p[0]), Long.parseLong(p[1]), Long.parseLong(p[2]), p[3]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.len.ticketing.infra.redis;
+
+import com.len.ticketing.domain.inventory.InventoryStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 남은 좌석 카운터 (Redis String)
+ *
+ * - key: inventory:remaining:{scheduleId}
+ * - adjust: key 가 있을 때만 INCRBY (Lua) -> 집계 전 schedule 에 음수 값이 생기지 않음
+ * - resetIfUnchanged: GET 비교 + SET 을 Lua 1번으로 (ARGV[1] 빈 문자열 = key 없음 기대)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisInventoryStore implements InventoryStore {
+
+    private static final String KEY_PREFIX = "inventory:remaining:";
+
+    private static final DefaultRedisScript<Long> ADJUST_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "return redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+                    "else return -1 end",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[1]) " +
+                    "if (cur == false and ARGV[1] == '') or cur == ARGV[1] then " +
+                    "  redis.call('SET', KEYS[1], ARGV[2]) " +
+                    "  return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redis;
+
+    private String key(long scheduleId) {
+        return KEY_PREFIX + scheduleId;
+    }
+
+    @Override
+    public Long remaining(long scheduleId) {
+        String v = redis.opsForValue().get(key(scheduleId));
+        if (v == null || v.isBlank()) return null;
+        try {
+            return Long.parseLong(v);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Map<Long, Long> remainingAll(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) return Map.of();
+        List<String> values = redis.opsForValue().multiGet(scheduleIds.stream().map(this::key).toList());
+        Map<Long, Long> out = new HashMap<>();
+        if (values == null) return out;
+        for (int i = 0; i < scheduleIds.size(); i++) {
+            String v = values.get(i);
+            if (v == null || v.isBlank()) continue;
+            try {
+                out.put(scheduleIds.get(i), Long.parseLong(v));
+            } catch (NumberFormatException ignored) {}
+        }
+        return out;
+    }
+
+    @Override
+    public void adjust(long scheduleId, long delta) {
+        redis.execute(ADJUST_IF_EXISTS_SCRIPT, List.of(key(scheduleId)), String.valueOf(delta));
+    }
+
+    @Override
+    public boolean resetIfUnchanged(long scheduleId, Long expected, long remaining) {
+        Long ok = redis.execute(
+                COMPARE_AND_SET_SCRIPT,
+                List.of(key(scheduleId)),
+                expected == null ? "" : String.valueOf(expected),
+                String.valueOf(remaining)
+        );
+        return ok != null && ok == 1L;
+    }
+}
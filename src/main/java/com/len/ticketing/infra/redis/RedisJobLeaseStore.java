@@ -0,0 +1,95 @@
+package com.len.ticketing.infra.redis;
+
+import com.len.ticketing.domain.job.JobLeaseStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 기반 job lease 저장소.
+ *
+ * - 노드 membership: ZSET job:nodes (member=nodeId, score=마지막 heartbeat ms)
+ * - shard lease: job:lease:{job}:{shard} = "{nodeId}|{token}" PX ttl
+ * - fencing token: job:fence:{job}:{shard} (INCR, lease 를 새로 잡을 때만 증가)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisJobLeaseStore implements JobLeaseStore {
+
+    private static final String NODES_KEY = "job:nodes";
+
+    // 내가 이미 들고 있으면 PEXPIRE 로 갱신(토큰 유지), 비어있으면 새 토큰 발급, 남이 들고 있으면 -1
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[1]) " +
+                    "if cur then " +
+                    "  local sep = string.find(cur, '|', 1, true) " +
+                    "  if sep and string.sub(cur, 1, sep - 1) == ARGV[1] then " +
+                    "    redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "    return tonumber(string.sub(cur, sep + 1)) " +
+                    "  end " +
+                    "  return -1 " +
+                    "end " +
+                    "local token = redis.call('INCR', KEYS[2]) " +
+                    "redis.call('SET', KEYS[1], ARGV[1] .. '|' .. token, 'PX', ARGV[2]) " +
+                    "return token",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[1]) " +
+                    "if cur and string.sub(cur, 1, string.len(ARGV[1]) + 1) == ARGV[1] .. '|' then " +
+                    "  return redis.call('DEL', KEYS[1]) " +
+                    "end " +
+                    "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redis;
+
+    private String leaseKey(String job, int shard) {
+        return "job:lease:" + job + ":" + shard;
+    }
+
+    private String fenceKey(String job, int shard) {
+        return "job:fence:" + job + ":" + shard;
+    }
+
+    @Override
+    public void heartbeat(String nodeId, long nowEpochMs) {
+        redis.opsForZSet().add(NODES_KEY, nodeId, nowEpochMs);
+    }
+
+    @Override
+    public List<String> liveNodes(long aliveSinceEpochMs) {
+        // 오래된 노드 정리 후 조회
+        redis.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, aliveSinceEpochMs - 1);
+        Set<String> members = redis.opsForZSet().rangeByScore(NODES_KEY, aliveSinceEpochMs, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) return List.of();
+
+        List<String> sorted = new ArrayList<>(members);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Override
+    public Long tryAcquire(String job, int shard, String nodeId, long ttlMs) {
+        Long token = redis.execute(
+                ACQUIRE_SCRIPT,
+                List.of(leaseKey(job, shard), fenceKey(job, shard)),
+                nodeId,
+                String.valueOf(ttlMs)
+        );
+        return (token == null || token <= 0) ? null : token;
+    }
+
+    @Override
+    public void release(String job, int shard, String nodeId) {
+        redis.execute(RELEASE_SCRIPT, List.of(leaseKey(job, shard)), nodeId);
+    }
+}
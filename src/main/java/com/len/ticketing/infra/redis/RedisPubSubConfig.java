@@ -0,0 +1,34 @@
+package com.len.ticketing.infra.redis;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    // 메시지 처리는 단일 스레드 -> 채널 수신 순서(= sse:seat 의 seq 순서) 그대로 listener 호출
+    // (기본 SimpleAsyncTaskExecutor 는 메시지마다 새 스레드라 순서가 섞임)
+    // Executor bean 으로 등록하지 않음 -> Boot 기본 applicationTaskExecutor 를 대체하지 않게
+    private final ExecutorService listenerExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("redis-sub-"));
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(listenerExecutor);
+        return container;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        listenerExecutor.shutdown();
+    }
+}
@@ -0,0 +1,159 @@
+package com.len.ticketing.infra.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.len.ticketing.infra.sse.SeatChangedEvent;
+import com.len.ticketing.infra.sse.SeatEventBridge;
+import com.len.ticketing.infra.sse.SeatOffer;
+import com.len.ticketing.infra.sse.SeatSseHub;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis pub/sub 기반 SSE 브리지.
+ *
+ * - channel: sse:seat (노드마다 구독 1개 -> 메시지당 노드별 1회 수신, 발행 노드 자신도 구독으로 받음)
+ * - Lua 로 INCR sse:seq:{scheduleId} + PUBLISH 를 원자적으로 -> seq 는 클러스터 전역 단조 증가,
+ *   모든 노드가 같은 seq 순서로 수신 (Last-Event-ID 가 어느 노드에서든 같은 의미)
+ * - message: "{seq}:{json}"  json = {"origin": nodeId, "scheduleId": .., "event": SeatChangedEvent}
+ *
+ * - channel: sse:offer -> 대기열 offer (seq/replay 없음, 해당 사용자 연결이 붙은 노드만 실제 전송)
+ *
+ * pub/sub 은 at-most-once (구독 재연결 중 유실 가능) -> 클라이언트 15초 safety refresh 로 보정
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ticketing.sse.bridge.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisSeatEventBridge implements SeatEventBridge, MessageListener {
+
+    static final String CHANNEL = "sse:seat";
+    static final String OFFER_CHANNEL = "sse:offer";
+    private static final String SEQ_KEY_PREFIX = "sse:seq:";
+
+    private static final DefaultRedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+            "local seq = redis.call('INCR', KEYS[1]) " +
+                    "redis.call('PUBLISH', ARGV[1], seq .. ':' .. ARGV[2]) " +
+                    "return seq",
+            Long.class
+    );
+
+    private record Envelope(String origin, Long scheduleId, SeatChangedEvent event) {}
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final SeatSseHub hub;
+    private final RedisMessageListenerContainer container;
+
+    private final String origin = UUID.randomUUID().toString();
+    private final ThreadPoolExecutor publisher;
+
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+    private final Counter droppedCounter;
+
+    public RedisSeatEventBridge(
+            StringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            SeatSseHub hub,
+            RedisMessageListenerContainer container,
+            MeterRegistry meterRegistry,
+            @Value("${ticketing.sse.bridge.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.hub = hub;
+        this.container = container;
+
+        this.sentCounter = meterRegistry.counter("ticketing.sse.bridge", "result", "sent");
+        this.receivedCounter = meterRegistry.counter("ticketing.sse.bridge", "result", "received");
+        this.droppedCounter = meterRegistry.counter("ticketing.sse.bridge", "result", "dropped");
+
+        // PUBLISH 는 전용 단일 스레드 (발행 순서 유지 + 요청 스레드 블로킹 없음)
+        this.publisher = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("sse-bridge-"),
+                (r, ex) -> droppedCounter.increment()
+        );
+    }
+
+    @PostConstruct
+    public void init() {
+        container.addMessageListener(this, List.of(new ChannelTopic(CHANNEL), new ChannelTopic(OFFER_CHANNEL)));
+        log.info("[RedisSeatEventBridge] subscribed. channels={}, origin={}", List.of(CHANNEL, OFFER_CHANNEL), origin);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        container.removeMessageListener(this);
+        publisher.shutdown();
+    }
+
+    @Override
+    public void broadcast(Long scheduleId, SeatChangedEvent event) {
+        publisher.execute(() -> {
+            try {
+                String json = objectMapper.writeValueAsString(new Envelope(origin, scheduleId, event));
+                redis.execute(PUBLISH_SCRIPT, List.of(SEQ_KEY_PREFIX + scheduleId), CHANNEL, json);
+                sentCounter.increment();
+            } catch (Exception e) {
+                droppedCounter.increment();
+                log.warn("[RedisSeatEventBridge] publish failed. scheduleId={}", scheduleId, e);
+            }
+        });
+    }
+
+    @Override
+    public void broadcastOffer(SeatOffer offer) {
+        publisher.execute(() -> {
+            try {
+                redis.convertAndSend(OFFER_CHANNEL, objectMapper.writeValueAsString(offer));
+            } catch (Exception e) {
+                droppedCounter.increment();
+                log.warn("[RedisSeatEventBridge] offer publish failed. scheduleId={}", offer.scheduleId(), e);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (OFFER_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+                hub.deliverOfferLocal(objectMapper.readValue(body, SeatOffer.class));
+                return;
+            }
+
+            int sep = body.indexOf(':');
+            if (sep <= 0) return;
+
+            long seq = Long.parseLong(body.substring(0, sep));
+            Envelope env = objectMapper.readValue(body.substring(sep + 1), Envelope.class);
+            if (env.scheduleId() == null || env.event() == null) return;
+
+            receivedCounter.increment();
+            hub.deliverLocal(env.scheduleId(), seq, env.event());
+        } catch (Exception e) {
+            log.warn("[RedisSeatEventBridge] invalid message", e);
+        }
+    }
+}
@@ -7,12 +7,12 @@ import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 기반 좌석 선점(락) 저장소.
  *
- * - lock: SET key value NX EX
+ * - lock: SET key value NX EX (Lua) -> 대기열 offer(seat:offer:*) 가 다른 사용자에게 걸려 있으면 실패,
+ *         offer 받은 본인이 잡으면 offer 삭제
  * - release: value(소유자) 확인 후 DEL (Lua로 원자 처리)
  */
 @Component
@@ -21,6 +21,16 @@ public class RedisSeatLockStore implements SeatLockStore {
 
     private final StringRedisTemplate redisTemplate;
 
+    private static final DefaultRedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>(
+            "local offer = redis.call('get', KEYS[2]) " +
+                    "if offer and offer ~= ARGV[1] then return 0 end " +
+                    "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then " +
+                    "if offer then redis.call('del', KEYS[2]) end " +
+                    "return 1 end " +
+                    "return 0",
+            Long.class
+    );
+
     private static final DefaultRedisScript<Long> RELEASE_IF_OWNER_SCRIPT = new DefaultRedisScript<>(
             "if redis.call('get', KEYS[1]) == ARGV[1] then " +
                     "return redis.call('del', KEYS[1]) " +
@@ -28,24 +38,32 @@ public class RedisSeatLockStore implements SeatLockStore {
             Long.class
     );
 
-    private String lockKey(long scheduleId, String seatNo) {
+    static String lockKey(long scheduleId, String seatNo) {
         return "seat:lock:" + scheduleId + ":" + seatNo;
     }
 
+    static String offerKey(long scheduleId, String seatNo) {
+        return "seat:offer:" + scheduleId + ":" + seatNo;
+    }
+
     @Override
     public boolean lockSeat(long scheduleId, String seatNo, long userId, long ttlSeconds) {
-        String key = lockKey(scheduleId, seatNo);
-        String value = String.valueOf(userId);
-        Boolean ok = redisTemplate.opsForValue().setIfAbsent(key, value, ttlSeconds, TimeUnit.SECONDS);
-        return Boolean.TRUE.equals(ok);
+        Long ok = redisTemplate.execute(
+                LOCK_SCRIPT,
+                List.of(lockKey(scheduleId, seatNo), offerKey(scheduleId, seatNo)),
+                String.valueOf(userId),
+                String.valueOf(ttlSeconds)
+        );
+        return ok != null && ok == 1L;
     }
 
     @Override
-    public void releaseSeat(long scheduleId, String seatNo, long userId) {
+    public boolean releaseSeat(long scheduleId, String seatNo, long userId) {
         String key = lockKey(scheduleId, seatNo);
         String value = String.valueOf(userId);
         // 소유자 아니면 아무 것도 안 함
-        redisTemplate.execute(RELEASE_IF_OWNER_SCRIPT, List.of(key), value);
+        Long deleted = redisTemplate.execute(RELEASE_IF_OWNER_SCRIPT, List.of(key), value);
+        return deleted != null && deleted == 1L;
     }
 
     @Override
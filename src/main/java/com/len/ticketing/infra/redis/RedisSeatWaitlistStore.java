@@ -0,0 +1,128 @@
+package com.len.ticketing.infra.redis;
+
+import com.len.ticketing.domain.ticket.SeatKey;
+import com.len.ticketing.domain.ticket.SeatWaitlistStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석별 대기열 (Redis)
+ *
+ * - seat:wait:{scheduleId}:{seatNo}  ZSET member=userId score=등록 시각(ms) -> 먼저 온 순서
+ * - seat:offer:{scheduleId}:{seatNo} String userId, PX offer TTL (RedisSeatLockStore 의 lock Lua 가 확인)
+ * - seat:offer:z                     ZSET member={scheduleId}:{seatNo} score=offer 기한(+grace) -> lapse sweep
+ *
+ * offerNext 는 "락/offer 없음 확인 + ZPOPMIN + offer SET + lapse 등록" 을 Lua 1번으로 처리
+ * -> 해제 직후 새로고침으로 먼저 잡는 요청과 경쟁해도 좌석은 한 사람에게만 감
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisSeatWaitlistStore implements SeatWaitlistStore {
+
+    private static final String OFFER_DUE_KEY = "seat:offer:z";
+    private static final long LAPSE_GRACE_MS = 1000L; // offer key 가 확실히 만료된 뒤에 다음 offer
+
+    // 락/offer 확인 + 등록을 한 번에 -> 확인 직후 좌석이 해제돼도 그 해제의 offerNext 가 이 등록을 봄
+    private static final DefaultRedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 and redis.call('EXISTS', KEYS[3]) == 0 then return -2 end " +
+                    "local r = redis.call('ZRANK', KEYS[1], ARGV[1]) " +
+                    "if not r then " +
+                    "  local n = redis.call('ZCARD', KEYS[1]) " +
+                    "  if n >= tonumber(ARGV[3]) then return -1 end " +
+                    "  redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+                    "  r = n " +
+                    "end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+                    "return r",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<Long> OFFER_NEXT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then return false end " +
+                    "local nxt = redis.call('ZPOPMIN', KEYS[3]) " +
+                    "if #nxt == 0 then return false end " +
+                    "redis.call('SET', KEYS[2], nxt[1], 'PX', ARGV[1]) " +
+                    "redis.call('ZADD', KEYS[4], ARGV[2], ARGV[3]) " +
+                    "return tonumber(nxt[1])",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<List> POP_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local m = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+                    "if #m > 0 then redis.call('ZREM', KEYS[1], unpack(m)) end " +
+                    "return m",
+            List.class
+    );
+
+    private final StringRedisTemplate redis;
+
+    private String waitKey(long scheduleId, String seatNo) {
+        return "seat:wait:" + scheduleId + ":" + seatNo;
+    }
+
+    @Override
+    public long join(long scheduleId, String seatNo, long userId, int maxSize, long ttlSeconds) {
+        Long pos = redis.execute(
+                JOIN_SCRIPT,
+                List.of(
+                        waitKey(scheduleId, seatNo),
+                        RedisSeatLockStore.lockKey(scheduleId, seatNo),
+                        RedisSeatLockStore.offerKey(scheduleId, seatNo)
+                ),
+                String.valueOf(userId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(maxSize),
+                String.valueOf(ttlSeconds)
+        );
+        return pos == null ? JOIN_FULL : pos;
+    }
+
+    @Override
+    public void leave(long scheduleId, String seatNo, long userId) {
+        redis.opsForZSet().remove(waitKey(scheduleId, seatNo), String.valueOf(userId));
+    }
+
+    @Override
+    public Long offerNext(long scheduleId, String seatNo, long offerTtlMs, long nowEpochMs) {
+        return redis.execute(
+                OFFER_NEXT_SCRIPT,
+                List.of(
+                        RedisSeatLockStore.lockKey(scheduleId, seatNo),
+                        RedisSeatLockStore.offerKey(scheduleId, seatNo),
+                        waitKey(scheduleId, seatNo),
+                        OFFER_DUE_KEY
+                ),
+                String.valueOf(offerTtlMs),
+                String.valueOf(nowEpochMs + offerTtlMs + LAPSE_GRACE_MS),
+                scheduleId + ":" + seatNo
+        );
+    }
+
+    @Override
+    public boolean hasOffer(long scheduleId, String seatNo, long userId) {
+        String v = redis.opsForValue().get(RedisSeatLockStore.offerKey(scheduleId, seatNo));
+        return String.valueOf(userId).equals(v);
+    }
+
+    @Override
+    public List<SeatKey> pollLapsedOffers(long nowEpochMs, int limit) {
+        List<?> raw = redis.execute(POP_DUE_SCRIPT, List.of(OFFER_DUE_KEY), String.valueOf(nowEpochMs), String.valueOf(limit));
+        if (raw == null || raw.isEmpty()) return List.of();
+
+        List<SeatKey> result = new ArrayList<>(raw.size());
+        for (Object o : raw) {
+            // seatNo 는 마지막 -> ':' 가 섞여도 split(limit) 로 복원
+            String[] p = String.valueOf(o).split(":", 2);
+            if (p.length < 2) continue;
+            try {
+                result.add(new SeatKey(Long.parseLong(p[0]), p[1]));
+            } catch (NumberFormatException ignored) {}
+        }
+        return result;
+    }
+}
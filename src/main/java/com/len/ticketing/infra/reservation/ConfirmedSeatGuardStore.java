@@ -4,16 +4,27 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
 @Repository
 @RequiredArgsConstructor
 public class ConfirmedSeatGuardStore {
 
     private final JdbcTemplate jdbcTemplate;
 
-    public void acquire(long scheduleId, String seatNo, long reservationId) {
-        jdbcTemplate.update(
-                "INSERT INTO confirmed_seat_guard(schedule_id, seat_no, reservation_id) VALUES (?, ?, ?)",
-                scheduleId, seatNo, reservationId
+    /**
+     * active row 잠금 + 소유자/만료 검증 + guard insert + HELD -> CONFIRMED 를 DB 왕복 1번으로 (sp_confirm_hold_v1, schema.sql)
+     * 호출자 트랜잭션 안에서 실행, 잡은 row/guard 락은 호출자 커밋까지 유지
+     *
+     * @return 결과 코드 (CONFIRMED, ALREADY_CONFIRMED, HOLD_NOT_FOUND, HOLD_EXPIRED, NOT_SEAT_OWNER, ALREADY_RESERVED)
+     *         ALREADY_CONFIRMED 는 요청한 사용자 본인의 예약이 이미 확정된 경우만
+     */
+    public String confirmHold(long scheduleId, String seatNo, long userId, LocalDateTime now) {
+        return jdbcTemplate.queryForObject(
+                "CALL sp_confirm_hold_v1(?, ?, ?, ?)",
+                String.class,
+                scheduleId, seatNo, userId, Timestamp.valueOf(now)
         );
     }
 }
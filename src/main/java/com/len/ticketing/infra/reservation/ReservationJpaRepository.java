@@ -96,6 +96,61 @@ public interface ReservationJpaRepository extends JpaRepository<Reservation, Lon
         """, nativeQuery = true)
     int expireBatch(@Param("now") LocalDateTime now);
 
+    // =========================
+    // deadline 기반 만료 (hold:expiry:z 에서 꺼낸 id 만 PK 로 처리 -> 테이블 크기와 무관)
+    // =========================
+    @Query(value = """
+        SELECT id
+          FROM reservation
+         WHERE id IN (:ids)
+           AND status = 'HELD'
+           AND active = 1
+           AND expires_at <= :now
+         FOR UPDATE
+        """, nativeQuery = true)
+    List<Long> lockDueHoldIds(@Param("ids") List<Long> ids,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+        UPDATE reservation
+           SET status = 'EXPIRED',
+               active = 0,
+               updated_at = :now
+         WHERE id IN (:ids)
+           AND status = 'HELD'
+           AND active = 1
+        """, nativeQuery = true)
+    int expireByIds(@Param("ids") List<Long> ids,
+                    @Param("now") LocalDateTime now);
+
+    // fallback sweep 용 (Redis 유실 대비): idx_reservation_expire_scan 타고 LIMIT 만큼만, shard(schedule_id % shardCount) 단위
+    interface ExpiredHoldRow {
+        Long getId();
+        Long getScheduleId();
+        Long getUserId();
+        String getSeatNo();
+    }
+
+    @Query(value = """
+        SELECT id          AS id,
+               schedule_id AS scheduleId,
+               user_id     AS userId,
+               seat_no     AS seatNo
+          FROM reservation
+         WHERE status = 'HELD'
+           AND active = 1
+           AND expires_at <= :now
+           AND MOD(schedule_id, :shardCount) = :shard
+         ORDER BY expires_at
+         LIMIT :limit
+         FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<ExpiredHoldRow> lockExpiredHolds(@Param("now") LocalDateTime now,
+                                          @Param("shard") int shard,
+                                          @Param("shardCount") int shardCount,
+                                          @Param("limit") int limit);
+
     // ===== 추가: active row 가볍게 조회 (native) =====
     interface ActiveLite {
         Long getId();
@@ -0,0 +1,108 @@
+package com.len.ticketing.infra.retention;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.len.ticketing.infra.outbox.OutboxEventRepository.ArchiveRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 삭제 전 outbox row 를 파일로 내보냄 (NDJSON + gzip, 배치 1개 = 파일 1개).
+ *
+ * - {dir}/outbox_event/{yyyy-MM-dd}/outbox_event-{첫 published_at}-{첫 event_id}.ndjson.gz
+ * - 임시 파일에 다 쓰고 fsync 후 rename -> 완성된 파일만 보임 (배송 agent 가 그대로 object storage 로 올리면 됨)
+ * - dir 이 비어 있으면 비활성 (아카이브 없이 삭제)
+ */
+@Component
+@RequiredArgsConstructor
+public class RetentionArchive {
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${ticketing.retention.archive.dir:}")
+    private String dir;
+
+    public boolean enabled() {
+        return dir != null && !dir.isBlank();
+    }
+
+    /**
+     * @return 쓴 바이트 수 (압축 후)
+     * @throws UncheckedIOException 쓰기 실패 -> 호출자는 해당 배치를 지우면 안 됨
+     */
+    public long exportOutbox(List<ArchiveRow> rows) {
+        if (rows.isEmpty()) return 0;
+
+        ArchiveRow first = rows.get(0);
+        Path day = Path.of(dir, "outbox_event", first.getPublishedAt().format(DAY));
+        String name = "outbox_event-" + first.getPublishedAt().format(STAMP) + "-" + first.getEventId() + ".ndjson.gz";
+        Path target = day.resolve(name);
+        Path tmp = day.resolve(name + ".tmp");
+
+        try {
+            Files.createDirectories(day);
+            try (BufferedWriter w = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tmp)), StandardCharsets.UTF_8))) {
+                for (ArchiveRow r : rows) {
+                    w.write(objectMapper.writeValueAsString(line(r)));
+                    w.newLine();
+                }
+            }
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ch.force(true);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return Files.size(target);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {}
+            throw new UncheckedIOException("outbox archive failed: " + target, e);
+        }
+    }
+
+    private ObjectNode line(ArchiveRow r) {
+        ObjectNode n = objectMapper.createObjectNode();
+        n.put("eventId", r.getEventId());
+        n.put("topic", r.getTopic());
+        n.put("eventKey", r.getEventKey());
+        if (r.getPayload() != null) {
+            n.set("payload", payloadNode(r.getPayload()));
+        } else if (r.getPayloadBin() != null) {
+            // binary 인코딩 topic -> 원본 바이트 그대로 (base64)
+            n.put("payloadBin", Base64.getEncoder().encodeToString(r.getPayloadBin()));
+        }
+        n.put("createdAt", String.valueOf(r.getCreatedAt()));
+        n.put("publishedAt", String.valueOf(r.getPublishedAt()));
+        return n;
+    }
+
+    private JsonNode payloadNode(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (IOException e) {
+            // json 컬럼이라 정상이면 안 오지만, 깨진 값이라도 원문은 남김
+            return objectMapper.getNodeFactory().textNode(payload);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.len.ticketing.infra.sse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 schedule 의 coalesce window 버퍼 (dispatch 스레드 전용, 동기화 없음)
+ *
+ * - 좌석별로 window 내 첫 이벤트의 reserved 와 마지막 이벤트만 유지
+ * - window 시작 전 상태(= !first.reserved)와 마지막 상태가 같으면 (HELD -> RELEASED 등) 변경 없음으로 보고 제외
+ */
+final class SeatChangeBatch {
+
+    private record Entry(boolean firstReserved, SeatChangedEvent last) {}
+
+    private final long createdAtNs = System.nanoTime();
+    private final Map<String, Entry> bySeat = new LinkedHashMap<>();
+    private long lastSeq;
+
+    long ageMs() {
+        return (System.nanoTime() - createdAtNs) / 1_000_000;
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    void add(long seq, SeatChangedEvent e) {
+        lastSeq = Math.max(lastSeq, seq);
+        Entry prev = bySeat.get(e.seatNo());
+        boolean firstReserved = prev != null ? prev.firstReserved() : reserved(e);
+        bySeat.put(e.seatNo(), new Entry(firstReserved, e));
+    }
+
+    List<SeatDelta> changes() {
+        List<SeatDelta> out = new ArrayList<>(bySeat.size());
+        for (Map.Entry<String, Entry> en : bySeat.entrySet()) {
+            SeatChangedEvent last = en.getValue().last();
+            boolean lastReserved = reserved(last);
+            if (lastReserved != en.getValue().firstReserved()) {
+                // 첫 이벤트 직전 상태(!firstReserved)로 되돌아옴 -> window 안에서 왕복, 전송 불필요
+                continue;
+            }
+            out.add(new SeatDelta(en.getKey(), last.type(), lastReserved));
+        }
+        return out;
+    }
+
+    private static boolean reserved(SeatChangedEvent e) {
+        return Boolean.TRUE.equals(e.reserved());
+    }
+}
@@ -0,0 +1,9 @@
+package com.len.ticketing.infra.sse;
+
+/**
+ * seq 가 붙은 좌석 변경을 받는 리스너 (SeatSseHub dispatch 스레드에서 호출 -> 빠르게 리턴해야 함)
+ */
+public interface SeatChangeListener {
+
+    void onSeatChanged(Long scheduleId, long seq, SeatChangedEvent event);
+}
@@ -0,0 +1,10 @@
+package com.len.ticketing.infra.sse;
+
+/**
+ * coalesced frame 안의 좌석 1건 변경 (window 내 마지막 상태만)
+ */
+public record SeatDelta(
+        String seatNo,
+        String type,          // 마지막 이벤트 타입 "HELD" / "RELEASED" / "EXPIRED" / "CONFIRMED"
+        boolean reserved
+) {}
@@ -0,0 +1,11 @@
+package com.len.ticketing.infra.sse;
+
+import java.util.List;
+
+/**
+ * event: seats -> coalesce window 동안 모인 좌석 변경 묶음
+ */
+public record SeatDeltaFrame(
+        Long scheduleId,
+        List<SeatDelta> changes
+) {}
@@ -0,0 +1,20 @@
+package com.len.ticketing.infra.sse;
+
+/**
+ * 노드 간 좌석 이벤트 전달.
+ *
+ * 브리지가 클러스터 전역 seq 를 붙여 모든 노드(발행 노드 포함)에 1번씩 전달
+ * -> 각 노드는 SeatSseHub.deliverLocal(scheduleId, seq, event) 로 자기 연결에만 fan-out
+ */
+public interface SeatEventBridge {
+
+    /**
+     * 전역 seq 부여 후 모든 노드로 전파 (호출 스레드를 블로킹하지 않아야 함)
+     */
+    void broadcast(Long scheduleId, SeatChangedEvent event);
+
+    /**
+     * 사용자 대상 offer 를 모든 노드로 전파 (seq 없음, 각 노드는 SeatSseHub.deliverOfferLocal)
+     */
+    void broadcastOffer(SeatOffer offer);
+}
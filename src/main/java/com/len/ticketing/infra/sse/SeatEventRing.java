@@ -0,0 +1,72 @@
+package com.len.ticketing.infra.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * schedule 별 최근 좌석 이벤트 ring buffer (dispatch 스레드 전용)
+ *
+ * - seq 는 클러스터 전역 단조 증가 (RedisSeatEventBridge 의 INCR) -> 어느 노드로 재연결해도 같은 번호
+ * - Last-Event-ID 이후 이벤트가 모두 buffer 안에 있으면 그것만 replay, 아니면 null (-> resync)
+ */
+final class SeatEventRing {
+
+    private final long[] seqs;
+    private final SeatChangedEvent[] events;
+    private int head;      // 다음 write 위치
+    private int size;
+    private long lastSeq;
+
+    SeatEventRing(int capacity) {
+        this.seqs = new long[capacity];
+        this.events = new SeatChangedEvent[capacity];
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * @return 기록했으면 true, 이미 지난 seq(늦게 도착/중복)라 버렸으면 false -> 호출자도 반영하지 않아야 함
+     */
+    boolean add(long seq, SeatChangedEvent event) {
+        if (seq <= lastSeq) {
+            if (!isCounterReset(seq)) return false;
+            // seq 카운터가 초기화된 경우(Redis 유실 등) -> 이전 이력은 비교 불가, 버림
+            head = 0;
+            size = 0;
+        }
+        seqs[head] = seq;
+        events[head] = event;
+        head = (head + 1) % seqs.length;
+        size = Math.min(size + 1, seqs.length);
+        lastSeq = seq;
+        return true;
+    }
+
+    /**
+     * INCR 카운터가 새로 시작(1)했거나 buffer 크기 이상 뒤로 간 경우만 초기화로 봄
+     * (그 외 뒤로 간 seq 는 늦게 도착한 이벤트 -> 최신 상태를 덮지 않게 버림)
+     */
+    private boolean isCounterReset(long seq) {
+        return seq == 1 || lastSeq - seq >= seqs.length;
+    }
+
+    /**
+     * @return afterSeq 이후 이벤트 (없으면 빈 리스트), buffer 범위 밖이면 null
+     */
+    List<SeatChangedEvent> since(long afterSeq) {
+        if (afterSeq == lastSeq) return List.of();
+        if (afterSeq > lastSeq || size == 0) return null;
+
+        int oldest = (head - size + seqs.length) % seqs.length;
+        if (seqs[oldest] > afterSeq + 1) return null; // 중간 이벤트가 이미 밀려남
+
+        List<SeatChangedEvent> out = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int idx = (oldest + i) % seqs.length;
+            if (seqs[idx] > afterSeq) out.add(events[idx]);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,6 @@
+package com.len.ticketing.infra.sse;
+
+/**
+ * 대기열 offer 알림 (event: offer) -> 해당 schedule 을 구독 중인 userId 의 연결에만 전송
+ */
+public record SeatOffer(Long scheduleId, String seatNo, Long userId, long expiresAt) {}
@@ -1,14 +1,37 @@
 package com.len.ticketing.infra.sse;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.len.ticketing.common.exception.BusinessException;
+import com.len.ticketing.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * scheduleId 별로 SSE 연결(SseEmitter)들을 보관하고,
@@ -17,102 +40,486 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * ✅ 중요
  * - 클라이언트(브라우저/ curl)가 끊기는 건 정상 상황 -> IOException 발생
  * - publish에서 IOException/IllegalStateException 발생 시 emitter 제거해야 로그 폭탄/요청 실패를 막을 수 있음
+ *
+ * ✅ fan-out 구조
+ * - publish() 는 dispatch executor(단일 스레드, bounded queue)에 넘기고 바로 리턴 -> 요청 스레드(afterCommit) 블로킹 없음
+ * - dispatch 스레드에서 이벤트를 1번만 JSON 인코딩 -> 모든 연결이 같은 frame 객체를 공유
+ * - 실제 소켓 write 는 writer pool 에서 연결별 outbound queue 를 drain (연결별 순서 보장)
+ * - outbound queue 가 가득 찬 연결(느린 소비자)은 끊음 -> 한 클라이언트가 전체 fan-out 을 막지 못함
+ *
+ * ✅ coalescing (ticketing.sse.coalesce-window-ms > 0)
+ * - SeatChangedEvent 는 schedule 별로 window 동안 모아서 event: seats 1개 frame(SeatDeltaFrame)으로 전송
+ * - 같은 좌석은 마지막 상태만, window 안에서 왕복(HELD -> RELEASED)한 좌석은 제외
+ * - window = 0 이면 기존처럼 이벤트마다 event: seat
+ *
+ * ✅ 멀티 노드 + 재연결(resume)
+ * - publish() 는 SeatEventBridge 로 넘기고, 브리지가 클러스터 전역 seq 를 붙여 모든 노드(자기 포함)에 전달
+ *   -> 각 노드는 deliverLocal(seq, event) 로 로컬 연결에만 fan-out (브리지가 없으면 노드 로컬 seq 사용)
+ * - seat/seats frame 은 SSE id = seq, schedule 별 최근 이벤트는 ring buffer 에 보관
+ * - 재연결 시 Last-Event-ID 이후 이벤트가 buffer 안에 있으면 그것만 seats frame 으로 replay,
+ *   범위 밖이면 event: resync -> 클라이언트가 그때만 전체 좌석 재조회
+ *
+ * ✅ 연결 예산
+ * - 노드/schedule 별 최대 연결 수 초과 시 SSE_CAPACITY_EXCEEDED (컨트롤러에서 503 + Retry-After)
+ * - emitter timeout = max-lifetime (+jitter) -> 오래된 연결은 Last-Event-ID 로 재연결되며 노드 간 재분산
+ * - ping 은 연결을 ping-slots 개 slot 으로 나눠 slot 주기마다 한 slot 씩 (15초마다 전체를 한 번에 돌지 않음)
+ * - ping slot 을 돌면서 write 가 idle-timeout 이상 성공하지 못한 연결은 끊음
+ *
+ * ✅ send deadline
+ * - emitter.send 는 블로킹 -> 멈춘 소켓 하나가 writer 스레드 하나를 잡음
+ * - ping tick 마다 send-timeout 을 넘긴 send 를 찾아 그 연결을 닫고, 묶인 writer 수만큼 pool 을 임시로 늘림
+ *   (최대 max-stalled-writers 개, send 가 풀리면 다시 줄임) -> 멈춘 연결은 자기 스레드만 막고 나머지 연결은 계속 drain
+ * - 묶인 스레드 자체는 컨테이너 소켓 write timeout 에서 풀림
  */
+@Slf4j
 @Component
 public class SeatSseHub {
 
-    // scheduleId -> emitters
-    private final Map<Long, CopyOnWriteArrayList<SseEmitter>> room = new ConcurrentHashMap<>();
+    // scheduleId -> connections
+    private final Map<Long, CopyOnWriteArrayList<SseConnection>> room = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<SeatEventBridge> bridgeProvider;
+    private final ObjectProvider<SeatChangeListener> listeners;
+    private List<SeatChangeListener> resolvedListeners;
+    private final ThreadPoolExecutor dispatcher;
+    private final ThreadPoolExecutor writers;
+    private final int writerThreads;
+    private final AtomicInteger stalledWriters = new AtomicInteger();
+    private final int clientQueueCapacity;
+    private final long coalesceWindowMs;
+    private final ScheduledExecutorService coalesceTimer;
+
+    // scheduleId -> window 버퍼 (dispatch 스레드에서만 접근)
+    private final Map<Long, SeatChangeBatch> pending = new HashMap<>();
+
+    // scheduleId -> 최근 이벤트 (dispatch 스레드에서만 접근)
+    private final Map<Long, SeatEventRing> rings = new HashMap<>();
+    private final int replayBufferSize;
+
+    // 브리지 비활성(단일 노드)일 때 쓰는 로컬 seq
+    private final Map<Long, AtomicLong> localSeq = new ConcurrentHashMap<>();
+
+    // scheduleId -> 이 노드가 마지막으로 처리한 seq (스냅샷 버전 기준점)
+    private final Map<Long, Long> lastSeqs = new ConcurrentHashMap<>();
+
+    private final Counter publishedCounter;
+    private final Counter dispatchRejectedCounter;
+    private final Counter slowConsumerCounter;
+    private final Counter replayCounter;
+    private final Counter resyncCounter;
+    private final Counter idleShedCounter;
+    private final Counter lateCounter;
+    private final Counter sendTimeoutCounter;
+
+    // ---- 연결 예산 ----
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong connectionIds = new AtomicLong();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicLong pingTick = new AtomicLong();
+    private final Timer sendTimer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticketing.sse.max-connections-per-node:20000}")
+    private int maxConnectionsPerNode;
+
+    @Value("${ticketing.sse.max-connections-per-schedule:10000}")
+    private int maxConnectionsPerSchedule;
+
+    @Value("${ticketing.sse.max-lifetime-ms:1800000}")
+    private long maxLifetimeMs;
+
+    @Value("${ticketing.sse.idle-timeout-ms:60000}")
+    private long idleTimeoutMs;
+
+    @Value("${ticketing.sse.ping-slots:15}")
+    private int pingSlots;
+
+    @Value("${ticketing.sse.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${ticketing.sse.max-stalled-writers:16}")
+    private int maxStalledWriters;
+
+    public SeatSseHub(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            ObjectProvider<SeatEventBridge> bridgeProvider,
+            ObjectProvider<SeatChangeListener> listeners,
+            @Value("${ticketing.sse.dispatch-queue-capacity:10000}") int dispatchQueueCapacity,
+            @Value("${ticketing.sse.writer-threads:4}") int writerThreads,
+            @Value("${ticketing.sse.client-queue-capacity:256}") int clientQueueCapacity,
+            @Value("${ticketing.sse.coalesce-window-ms:50}") long coalesceWindowMs,
+            @Value("${ticketing.sse.replay-buffer-size:1024}") int replayBufferSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.bridgeProvider = bridgeProvider;
+        this.listeners = listeners;
+        this.meterRegistry = meterRegistry;
+        this.clientQueueCapacity = clientQueueCapacity;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.replayBufferSize = replayBufferSize;
+
+        this.publishedCounter = meterRegistry.counter("ticketing.sse.published");
+        this.dispatchRejectedCounter = meterRegistry.counter("ticketing.sse.dropped", "reason", "dispatch_full");
+        this.slowConsumerCounter = meterRegistry.counter("ticketing.sse.dropped", "reason", "slow_consumer");
+        this.replayCounter = meterRegistry.counter("ticketing.sse.resume", "result", "replay");
+        this.resyncCounter = meterRegistry.counter("ticketing.sse.resume", "result", "resync");
+        this.idleShedCounter = meterRegistry.counter("ticketing.sse.dropped", "reason", "idle");
+        this.lateCounter = meterRegistry.counter("ticketing.sse.dropped", "reason", "late");
+        this.sendTimeoutCounter = meterRegistry.counter("ticketing.sse.dropped", "reason", "send_timeout");
+        this.sendTimer = Timer.builder("ticketing.sse.send")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        // dispatch 는 단일 스레드 -> 이벤트 발행 순서 그대로 각 연결 queue 에 들어감
+        this.dispatcher = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(dispatchQueueCapacity),
+                new CustomizableThreadFactory("sse-dispatch-"),
+                (r, ex) -> dispatchRejectedCounter.increment()
+        );
+        // fixed pool 이지만 멈춘 send 만큼 resizeWriters 로 늘었다 줄어듦
+        this.writerThreads = writerThreads;
+        this.writers = new ThreadPoolExecutor(
+                writerThreads, writerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("sse-writer-")
+        );
+        this.coalesceTimer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sse-coalesce-"));
+
+        meterRegistry.gauge("ticketing.sse.connections", connectionCount);
+        meterRegistry.gauge("ticketing.sse.schedules", room, Map::size);
+        meterRegistry.gauge("ticketing.sse.buffered.bytes", bufferedBytes);
+        meterRegistry.gauge("ticketing.sse.dispatch.queue", dispatcher, e -> e.getQueue().size());
+        meterRegistry.gauge("ticketing.sse.writers.stalled", stalledWriters);
+    }
 
     /**
      * SSE 구독(연결 생성)
+     *
+     * @param userId      대기열 offer 를 받을 사용자 (없으면 좌석 이벤트만)
+     * @param lastEventId 재연결 시 마지막으로 받은 seq (Last-Event-ID), 최초 연결이면 null
      */
-    public SseEmitter subscribe(Long scheduleId) {
-        // timeout 0 = 무제한(필요하면 30분 등으로 설정 가능)
-        SseEmitter emitter = new SseEmitter(0L);
+    public SseEmitter subscribe(Long scheduleId, Long userId, Long lastEventId) {
+        // 예산 초과는 emitter 만들기 전에 바로 거절 (check-then-add 라 동시 요청 시 약간 초과 가능)
+        if (connectionCount.get() >= maxConnectionsPerNode) {
+            reject("node");
+        }
+        List<SseConnection> current = room.get(scheduleId);
+        if (current != null && current.size() >= maxConnectionsPerSchedule) {
+            reject("schedule");
+        }
 
-        room.computeIfAbsent(scheduleId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        // lifetime 에 jitter -> 같은 시각에 붙은 연결들이 같은 시각에 끊기지 않게
+        long timeoutMs = maxLifetimeMs + ThreadLocalRandom.current().nextLong(Math.max(1, maxLifetimeMs / 10));
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        SseConnection conn = new SseConnection(
+                connectionIds.incrementAndGet(), scheduleId, userId, emitter, clientQueueCapacity, bufferedBytes, sendTimer,
+                this::onStallReleased);
 
-        Runnable cleanup = () -> remove(scheduleId, emitter);
+        room.computeIfAbsent(scheduleId, k -> new CopyOnWriteArrayList<>()).add(conn);
+        connectionCount.incrementAndGet();
+
+        Runnable cleanup = () -> remove(conn);
         emitter.onCompletion(cleanup);
         emitter.onTimeout(cleanup);
         emitter.onError(ex -> cleanup.run());
 
         // ✅ 연결 확인용 hello
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("hello")
-                    .data(Map.of("ok", true)));
-        } catch (IOException | IllegalStateException e) {
-            cleanup.run();
+        send(conn, frame("hello", null, "{\"ok\":true}"));
+
+        if (lastEventId != null) {
+            // ring buffer 는 dispatch 스레드 소유 -> replay 도 dispatch 스레드에서
+            // (그 사이 live frame 이 먼저 나가도 replay 가 최신 상태까지 덮으므로 최종 상태는 같음)
+            dispatcher.execute(() -> replay(conn, lastEventId));
         }
 
         return emitter;
     }
 
     /**
-     * 좌석 변경 이벤트 발행 (event: seat)
+     * 좌석 변경 이벤트 발행 (event: seat, coalescing 켜져 있으면 event: seats 로 묶여서 나감)
+     * 호출 스레드에서는 dispatch queue 에 넣기만 함
      */
-    public void publish(Long scheduleId, Object payload) {
-        List<SseEmitter> emitters = room.get(scheduleId);
-        if (emitters == null || emitters.isEmpty()) return;
+    public void publish(Long scheduleId, SeatChangedEvent event) {
+        SeatEventBridge bridge = bridgeProvider.getIfAvailable();
+        if (bridge != null) {
+            bridge.broadcast(scheduleId, event);
+            return;
+        }
+        // seq 는 dispatch 스레드에서 매김 -> 번호 순서 = 처리 순서
+        dispatcher.execute(() ->
+                onSeatEvent(scheduleId, localSeq.computeIfAbsent(scheduleId, k -> new AtomicLong()).incrementAndGet(), event));
+    }
 
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("seat")
-                        .data(payload));
-            } catch (IOException | IllegalStateException e) {
-                // ✅ 끊긴 연결은 정리 (정상 상황)
-                remove(scheduleId, emitter);
-            }
+    /**
+     * seq 가 붙은 이벤트를 이 노드에 붙은 연결에만 fan-out (브리지 수신 경로)
+     * 로컬 구독자가 없어도 ring buffer 에는 기록 -> 다른 노드에서 넘어온 재연결도 replay 가능
+     */
+    public void deliverLocal(Long scheduleId, long seq, SeatChangedEvent event) {
+        dispatcher.execute(() -> onSeatEvent(scheduleId, seq, event));
+    }
+
+    /**
+     * 대기열 offer 를 해당 사용자에게 (event: offer) -> 사용자 연결이 어느 노드에 있든 브리지로 전달
+     */
+    public void offer(SeatOffer offer) {
+        SeatEventBridge bridge = bridgeProvider.getIfAvailable();
+        if (bridge != null) {
+            bridge.broadcastOffer(offer);
+            return;
         }
+        deliverOfferLocal(offer);
+    }
+
+    public void deliverOfferLocal(SeatOffer offer) {
+        dispatcher.execute(() -> {
+            List<SseConnection> connections = room.get(offer.scheduleId());
+            if (connections == null) return;
+
+            SseFrame frame = null;
+            for (SseConnection conn : connections) {
+                if (!offer.userId().equals(conn.userId())) continue;
+                if (frame == null) {
+                    try {
+                        frame = frame("offer", null, objectMapper.writeValueAsString(offer));
+                    } catch (JsonProcessingException e) {
+                        log.warn("[SeatSseHub] offer serialize failed. scheduleId={}", offer.scheduleId(), e);
+                        return;
+                    }
+                }
+                send(conn, frame);
+            }
+        });
     }
 
     /**
      * keep-alive ping (event: ping)
-     * - Controller에서 @Scheduled로 주기 호출하면 브라우저가 프록시/네트워크에 의해 끊기는 걸 줄일 수 있음
+     * - 호출할 때마다 다음 slot 의 연결에만 ping -> ping-slots 번 호출하면 전체 1바퀴
+     * - 같은 slot 을 돌면서 idle 연결 정리
+     * - send deadline 검사는 slot 과 무관하게 매번 전체 (dispatch 스레드가 아니라 호출 스레드에서)
+     */
+    public void pingNextSlot() {
+        if (room.isEmpty()) return;
+        abortStalledSends();
+        int slots = Math.max(1, pingSlots);
+        int slot = (int) (pingTick.getAndIncrement() % slots);
+        dispatcher.execute(() -> pingSlot(slot, slots));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coalesceTimer.shutdownNow();
+        dispatcher.shutdownNow();
+        writers.shutdownNow();
+        room.values().forEach(list -> list.forEach(SseConnection::close));
+        room.clear();
+        connectionCount.set(0);
+    }
+
+    // ---------------- internal ----------------
+
+    /**
+     * 이 노드가 마지막으로 처리한 seq (없으면 0)
      */
-    public void ping(Long scheduleId) {
-        List<SseEmitter> emitters = room.get(scheduleId);
-        if (emitters == null || emitters.isEmpty()) return;
+    public long lastSeq(Long scheduleId) {
+        return lastSeqs.getOrDefault(scheduleId, 0L);
+    }
 
-        Map<String, String> payload = Map.of("at", LocalDateTime.now().toString());
+    private void onSeatEvent(Long scheduleId, long seq, SeatChangedEvent event) {
+        if (!rings.computeIfAbsent(scheduleId, k -> new SeatEventRing(replayBufferSize)).add(seq, event)) {
+            // 늦게 도착한 이벤트 -> 이미 반영된 더 최신 상태를 덮지 않게 버림 (replay buffer 도 유지)
+            lateCounter.increment();
+            return;
+        }
+        lastSeqs.put(scheduleId, seq);
 
-        for (SseEmitter emitter : emitters) {
+        if (resolvedListeners == null) {
+            // 리스너가 hub 에 의존할 수 있어서 생성자에서 바로 resolve 하지 않음 (dispatch 스레드 전용)
+            resolvedListeners = listeners.orderedStream().toList();
+        }
+        for (SeatChangeListener listener : resolvedListeners) {
             try {
-                emitter.send(SseEmitter.event()
-                        .name("ping")
-                        .data(payload));
-            } catch (IOException | IllegalStateException e) {
-                remove(scheduleId, emitter);
+                listener.onSeatChanged(scheduleId, seq, event);
+            } catch (Exception e) {
+                log.warn("[SeatSseHub] listener failed. scheduleId={}", scheduleId, e);
             }
         }
+
+        if (!room.containsKey(scheduleId)) return;
+        if (coalesceWindowMs > 0) {
+            buffer(scheduleId, seq, event);
+            return;
+        }
+        broadcast(scheduleId, "seat", seq, event);
+    }
+
+    private void pingSlot(int slot, int slots) {
+        SseFrame ping = frame("ping", null, "{\"at\":\"" + LocalDateTime.now() + "\"}");
+        for (List<SseConnection> connections : room.values()) {
+            for (SseConnection conn : connections) {
+                if (conn.id() % slots != slot) continue;
+                if (conn.idleMs() > idleTimeoutMs) {
+                    // write 가 계속 성공하지 못함 (죽은 소켓/멈춘 클라이언트)
+                    idleShedCounter.increment();
+                    remove(conn);
+                    continue;
+                }
+                send(conn, ping);
+            }
+        }
+    }
+
+    private void abortStalledSends() {
+        for (List<SseConnection> connections : room.values()) {
+            for (SseConnection conn : connections) {
+                if (!conn.abortStalledSend(sendTimeoutMs)) continue;
+                // 이미 closed -> remove 의 close 는 emitter 를 건드리지 않음 (send 가 풀린 뒤 writer 가 complete)
+                sendTimeoutCounter.increment();
+                stalledWriters.incrementAndGet();
+                resizeWriters();
+                remove(conn);
+            }
+        }
+    }
+
+    private void onStallReleased() {
+        stalledWriters.decrementAndGet();
+        resizeWriters();
     }
 
     /**
-     * 모든 scheduleId 대상으로 ping 브로드캐스트
+     * writer pool = writer-threads + 멈춘 send 수 (max-stalled-writers 까지)
      */
-    public void pingAll() {
-        for (Long scheduleId : room.keySet()) {
-            ping(scheduleId);
+    private synchronized void resizeWriters() {
+        int target = writerThreads + Math.min(Math.max(0, stalledWriters.get()), maxStalledWriters);
+        if (target > writers.getMaximumPoolSize()) {
+            writers.setMaximumPoolSize(target);
+            writers.setCorePoolSize(target); // 늘리면 queue 에 쌓인 drain 을 바로 새 스레드가 가져감
+        } else if (target < writers.getCorePoolSize()) {
+            writers.setCorePoolSize(target);
+            writers.setMaximumPoolSize(target);
         }
     }
 
+    private void replay(SseConnection conn, long lastEventId) {
+        SeatEventRing ring = rings.get(conn.scheduleId());
+        List<SeatChangedEvent> missed = ring == null ? null : ring.since(lastEventId);
+
+        if (missed == null) {
+            // buffer 범위 밖(또는 이 노드가 모르는 seq) -> 전체 재조회 유도
+            resyncCounter.increment();
+            send(conn, frame("resync", null, "{\"scheduleId\":" + conn.scheduleId() + "}"));
+            return;
+        }
+
+        replayCounter.increment();
+        if (missed.isEmpty()) return;
+
+        SeatChangeBatch batch = new SeatChangeBatch();
+        for (SeatChangedEvent e : missed) {
+            batch.add(ring.lastSeq(), e);
+        }
+        List<SeatDelta> changes = batch.changes();
+        if (changes.isEmpty()) return;
+
+        try {
+            send(conn, frame("seats", ring.lastSeq(),
+                    objectMapper.writeValueAsString(new SeatDeltaFrame(conn.scheduleId(), changes))));
+        } catch (JsonProcessingException e) {
+            log.warn("[SeatSseHub] replay serialize failed. scheduleId={}", conn.scheduleId(), e);
+        }
+    }
+
+    private void broadcast(Long scheduleId, String eventName, Long seq, Object payload) {
+        List<SseConnection> connections = room.get(scheduleId);
+        if (connections == null || connections.isEmpty()) return;
+
+        SseFrame frame;
+        try {
+            // ✅ 연결 수와 무관하게 직렬화 1번
+            frame = frame(eventName, seq, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            log.warn("[SeatSseHub] payload serialize failed. scheduleId={}, event={}", scheduleId, eventName, e);
+            return;
+        }
+
+        for (SseConnection conn : connections) {
+            send(conn, frame);
+        }
+        if ("seat".equals(eventName) || "seats".equals(eventName)) {
+            publishedCounter.increment();
+        }
+    }
+
+    private void buffer(Long scheduleId, long seq, SeatChangedEvent event) {
+        SeatChangeBatch batch = pending.get(scheduleId);
+        if (batch != null && batch.ageMs() > coalesceWindowMs * 4) {
+            // flush 가 dispatch queue 에서 밀려 유실된 경우 대비
+            flush(scheduleId);
+            batch = null;
+        }
+        if (batch == null) {
+            batch = new SeatChangeBatch();
+            pending.put(scheduleId, batch);
+            coalesceTimer.schedule(
+                    () -> dispatcher.execute(() -> flush(scheduleId)),
+                    coalesceWindowMs, TimeUnit.MILLISECONDS
+            );
+        }
+        batch.add(seq, event);
+    }
+
+    private void flush(Long scheduleId) {
+        SeatChangeBatch batch = pending.remove(scheduleId);
+        if (batch == null) return;
+
+        List<SeatDelta> changes = batch.changes();
+        if (changes.isEmpty()) return;
+
+        broadcast(scheduleId, "seats", batch.lastSeq(), new SeatDeltaFrame(scheduleId, changes));
+    }
+
+    private void reject(String scope) {
+        meterRegistry.counter("ticketing.sse.rejected", "scope", scope).increment();
+        throw new BusinessException(ErrorCode.SSE_CAPACITY_EXCEEDED);
+    }
+
+    private void send(SseConnection conn, SseFrame frame) {
+        if (!conn.enqueue(frame, writers, () -> remove(conn)) && !conn.isClosed()) {
+            // outbound queue overflow = 느린 소비자 -> 끊고 재연결 유도
+            slowConsumerCounter.increment();
+            remove(conn);
+        }
+    }
+
+    private static SseFrame frame(String eventName, Long seq, String json) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (seq != null) {
+            builder.id(String.valueOf(seq)); // 브라우저가 재연결 시 Last-Event-ID 로 돌려줌
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> parts = builder
+                .name(eventName)
+                .data(json)
+                .build();
+        // 대부분 ASCII -> 문자 수 + 헤더(event/id 라인) 정도로 근사
+        return new SseFrame(parts, json.length() + eventName.length() + 32);
+    }
+
     /**
-     * emitter 제거 + room 정리
+     * connection 제거 + room 정리
      */
-    private void remove(Long scheduleId, SseEmitter emitter) {
-        CopyOnWriteArrayList<SseEmitter> list = room.get(scheduleId);
+    private void remove(SseConnection conn) {
+        CopyOnWriteArrayList<SseConnection> list = room.get(conn.scheduleId());
         if (list != null) {
-            list.remove(emitter);
+            if (list.remove(conn)) {
+                connectionCount.decrementAndGet();
+            }
             if (list.isEmpty()) {
-                room.remove(scheduleId);
+                room.remove(conn.scheduleId(), list);
             }
         }
-        try {
-            emitter.complete();
-        } catch (Exception ignore) {
-        }
+        conn.close();
     }
 }
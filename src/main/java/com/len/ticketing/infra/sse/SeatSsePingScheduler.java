@@ -1,5 +1,6 @@
 package com.len.ticketing.infra.sse;
 
+import com.len.ticketing.application.job.JobRunner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -9,9 +10,11 @@ import org.springframework.stereotype.Component;
 public class SeatSsePingScheduler {
 
     private final SeatSseHub hub;
+    private final JobRunner jobRunner;
 
-    @Scheduled(fixedRate = 15000) // 15초마다
+    // slot 1개씩 -> ping-slot-ms * ping-slots (기본 1초 * 15 = 15초) 마다 연결별 1번
+    @Scheduled(fixedRateString = "${ticketing.sse.ping-slot-ms:1000}")
     public void ping() {
-        hub.pingAll();
+        jobRunner.run("sse-ping", hub::pingNextSlot);
     }
 }
@@ -0,0 +1,171 @@
+package com.len.ticketing.infra.sse;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 1개 = emitter + bounded outbound queue.
+ *
+ * - frame 은 이미 인코딩된 공유 객체 -> 연결마다 직렬화하지 않음
+ * - 한 연결에 대해 drain 은 동시에 1개만 돌아서 frame 순서 보장
+ * - queue 가 가득 차면(느린 소비자) enqueue 가 false -> 허브가 연결을 끊음
+ * - send 가 deadline 을 넘겨 멈추면 허브가 abortStalledSend 로 연결을 닫음
+ *   (emitter 는 send 와 같은 lock 을 써서 다른 스레드에서 complete 하면 같이 멈춤 -> complete 는 writer 스레드가 send 에서 풀려난 뒤)
+ */
+final class SseConnection {
+
+    private final long id;
+    private final Long scheduleId;
+    private final Long userId;                // 대기열 offer 같은 사용자 대상 이벤트용 (익명 연결이면 null)
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseFrame> outbound;
+    private final AtomicLong bufferedBytes;   // 허브 전체 합계 (gauge)
+    private final Timer sendTimer;
+    private final Runnable onStallReleased;   // abort 된 send 가 끝나서 writer 스레드가 풀림
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile long lastWriteNs = System.nanoTime();
+
+    // 진행 중인 send 시작 시각 (0 = send 중 아님, STALLED = deadline 초과로 abort 됨)
+    private static final long STALLED = Long.MIN_VALUE;
+    private final AtomicLong sendStartNs = new AtomicLong();
+
+    SseConnection(long id, Long scheduleId, Long userId, SseEmitter emitter, int queueCapacity,
+                  AtomicLong bufferedBytes, Timer sendTimer, Runnable onStallReleased) {
+        this.id = id;
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.emitter = emitter;
+        this.outbound = new ArrayBlockingQueue<>(queueCapacity);
+        this.bufferedBytes = bufferedBytes;
+        this.sendTimer = sendTimer;
+        this.onStallReleased = onStallReleased;
+    }
+
+    long id() {
+        return id;
+    }
+
+    Long scheduleId() {
+        return scheduleId;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 마지막으로 write 가 성공한 뒤 지난 시간 (ping 이 주기적으로 나가므로 정상 연결은 ping 주기 이내)
+     */
+    long idleMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastWriteNs);
+    }
+
+    /**
+     * 진행 중인 send 가 timeoutMs 이상 블로킹 중이면 연결을 닫음 (이후 enqueue 는 false)
+     *
+     * @return true 면 writer 스레드 1개가 이 연결의 send 에 묶여 있음 -> send 가 풀리면 onStallReleased 가 호출됨
+     */
+    boolean abortStalledSend(long timeoutMs) {
+        long start = sendStartNs.get();
+        if (start == 0 || start == STALLED) return false;
+        if (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(timeoutMs)) return false;
+        if (!sendStartNs.compareAndSet(start, STALLED)) return false; // 그 사이 send 가 끝남
+        closed = true;
+        clearOutbound();
+        return true;
+    }
+
+    /**
+     * @return false 면 queue overflow (느린 소비자) 또는 이미 닫힌 연결
+     */
+    boolean enqueue(SseFrame frame, Executor writer, Runnable onFailure) {
+        if (closed || !outbound.offer(frame)) return false;
+        bufferedBytes.addAndGet(frame.bytes());
+        scheduleDrain(writer, onFailure);
+        return true;
+    }
+
+    void close() {
+        if (closed) return;
+        closed = true;
+        clearOutbound();
+        // send 중이면 complete 가 emitter lock 에서 같이 멈춤 -> drain 이 send 를 마친 뒤 complete
+        if (sendStartNs.get() == 0) {
+            completeQuietly();
+        }
+    }
+
+    private void clearOutbound() {
+        SseFrame f;
+        while ((f = outbound.poll()) != null) {
+            bufferedBytes.addAndGet(-f.bytes());
+        }
+    }
+
+    private void completeQuietly() {
+        try {
+            emitter.complete();
+        } catch (Exception ignore) {
+        }
+    }
+
+    private void scheduleDrain(Executor writer, Runnable onFailure) {
+        if (!draining.compareAndSet(false, true)) return;
+        try {
+            writer.execute(() -> drain(writer, onFailure));
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+        }
+    }
+
+    private void drain(Executor writer, Runnable onFailure) {
+        try {
+            SseFrame frame;
+            while (!closed && (frame = outbound.poll()) != null) {
+                bufferedBytes.addAndGet(-frame.bytes());
+                long start = System.nanoTime();
+                sendStartNs.set(start);
+                try {
+                    emitter.send(frame.parts());
+                } finally {
+                    if (sendStartNs.getAndSet(0) == STALLED) {
+                        onStallReleased.run();
+                    }
+                }
+                lastWriteNs = System.nanoTime();
+                sendTimer.record(lastWriteNs - start, TimeUnit.NANOSECONDS);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // ✅ 끊긴 연결 (정상 상황)
+            draining.set(false);
+            onFailure.run();
+            return;
+        }
+        draining.set(false);
+
+        if (closed) {
+            // send 중에 닫힌 연결 (close/abort 가 complete 를 미뤄둔 경우)
+            completeQuietly();
+            return;
+        }
+
+        // drain 종료 직전에 들어온 frame 처리
+        if (!closed && !outbound.isEmpty()) {
+            scheduleDrain(writer, onFailure);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.len.ticketing.infra.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Set;
+
+/**
+ * 인코딩이 끝난 SSE frame (모든 연결이 공유), bytes 는 buffered bytes 계측용 근사치
+ */
+record SseFrame(Set<ResponseBodyEmitter.DataWithMediaType> parts, int bytes) {}
@@ -1,5 +1,6 @@
 -- Minimal schema init for tables not managed by JPA
 -- MySQL 8.x
+-- Statements end with "^;" (spring.sql.init.separator) so the stored procedure body can keep plain ";".
 
 CREATE TABLE IF NOT EXISTS confirmed_seat_guard (
                                                     schedule_id     BIGINT       NOT NULL,
@@ -7,4 +8,110 @@ CREATE TABLE IF NOT EXISTS confirmed_seat_guard (
     reservation_id  BIGINT       NOT NULL,
     confirmed_at    DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     PRIMARY KEY (schedule_id, seat_no)
-    ) ENGINE=InnoDB;
\ No newline at end of file
+    ) ENGINE=InnoDB^;
+
+-- background job shard fencing (JobFenceStore)
+CREATE TABLE IF NOT EXISTS job_fence (
+    job_name       VARCHAR(64)  NOT NULL,
+    shard_no       INT          NOT NULL,
+    fencing_token  BIGINT       NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (job_name, shard_no)
+    ) ENGINE=InnoDB^;
+
+-- consumer idempotency when ticketing.confirm.dedup.store=jdbc (JdbcConsumerDedupStore), purged by RetentionJob after ticketing.retention.dedup.retention-hours
+CREATE TABLE IF NOT EXISTS consumer_dedup (
+    event_id      VARCHAR(64)  NOT NULL,
+    processed_at  DATETIME     NOT NULL,
+    PRIMARY KEY (event_id),
+    KEY idx_consumer_dedup_processed (processed_at)
+    ) ENGINE=InnoDB^;
+
+-- single-round-trip confirm (ConfirmedSeatGuardStore.confirmHold): active row lock + owner/expiry check
+-- + confirmed_seat_guard insert + HELD -> CONFIRMED, returns one row with the outcome (ConfirmOutcome name).
+-- Runs inside the caller's transaction (no COMMIT here). Installed by spring.sql.init together with the tables;
+-- to apply by hand with the mysql client, run it with DELIMITER ^; and switch back afterwards.
+-- Never dropped on startup (other nodes may be calling it): a changed body gets a new _vN name, created only
+-- if missing (MySQL 8.0.29+), and the old version is dropped by hand once no node calls it (docs/db-migration.md).
+CREATE PROCEDURE IF NOT EXISTS sp_confirm_hold_v1(
+    IN p_schedule_id  BIGINT,
+    IN p_seat_no      VARCHAR(32),
+    IN p_user_id      BIGINT,
+    IN p_now          DATETIME(6)
+)
+proc: BEGIN
+    DECLARE v_id          BIGINT DEFAULT NULL;
+    DECLARE v_user_id     BIGINT;
+    DECLARE v_status      VARCHAR(20);
+    DECLARE v_expires_at  DATETIME(6);
+    DECLARE v_duplicate   INT DEFAULT 0;
+    DECLARE v_guard_id    BIGINT DEFAULT NULL;
+    DECLARE CONTINUE HANDLER FOR 1062 SET v_duplicate = 1;
+
+    -- same row findActiveLite returns, locked so a concurrent confirm/cancel/expire waits here
+    SELECT id, user_id, status, expires_at
+      INTO v_id, v_user_id, v_status, v_expires_at
+      FROM reservation
+     WHERE schedule_id = p_schedule_id
+       AND seat_no = p_seat_no
+       AND active = 1
+     ORDER BY id DESC
+     LIMIT 1
+       FOR UPDATE;
+
+    IF v_id IS NULL THEN
+        SELECT 'HOLD_NOT_FOUND' AS outcome;
+        LEAVE proc;
+    END IF;
+
+    -- owner first: a late event of a previous holder must not see another user's confirmation as its own
+    IF v_user_id IS NULL OR v_user_id <> p_user_id THEN
+        SELECT 'NOT_SEAT_OWNER' AS outcome;
+        LEAVE proc;
+    END IF;
+
+    IF v_status = 'CONFIRMED' THEN
+        SELECT 'ALREADY_CONFIRMED' AS outcome;
+        LEAVE proc;
+    END IF;
+
+    IF v_status <> 'HELD' THEN
+        SELECT 'HOLD_NOT_FOUND' AS outcome;
+        LEAVE proc;
+    END IF;
+
+    IF v_expires_at IS NULL OR v_expires_at <= p_now THEN
+        UPDATE reservation
+           SET status = 'EXPIRED',
+               active = 0,
+               updated_at = p_now
+         WHERE id = v_id;
+        SELECT 'HOLD_EXPIRED' AS outcome;
+        LEAVE proc;
+    END IF;
+
+    -- seat-level last line of defence (PK schedule_id, seat_no)
+    -- duplicate for this reservation = redelivery, for another reservation = seat already sold
+    INSERT INTO confirmed_seat_guard(schedule_id, seat_no, reservation_id)
+    VALUES (p_schedule_id, p_seat_no, v_id);
+    IF v_duplicate = 1 THEN
+        SELECT reservation_id
+          INTO v_guard_id
+          FROM confirmed_seat_guard
+         WHERE schedule_id = p_schedule_id
+           AND seat_no = p_seat_no;
+        IF v_guard_id = v_id THEN
+            SELECT 'ALREADY_CONFIRMED' AS outcome;
+        ELSE
+            SELECT 'ALREADY_RESERVED' AS outcome;
+        END IF;
+        LEAVE proc;
+    END IF;
+
+    UPDATE reservation
+       SET status = 'CONFIRMED',
+           updated_at = p_now
+     WHERE id = v_id;
+
+    SELECT 'CONFIRMED' AS outcome;
+END^;
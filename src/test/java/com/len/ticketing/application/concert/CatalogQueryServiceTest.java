@@ -0,0 +1,127 @@
+package com.len.ticketing.application.concert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.len.ticketing.infra.concert.ConcertJpaRepository;
+import com.len.ticketing.infra.concert.ScheduleJpaRepository;
+import com.len.ticketing.infra.concert.SeatJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogQueryServiceTest {
+
+    private final SeatJpaRepository seatRepository = mock(SeatJpaRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    private CatalogQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CatalogQueryService(
+                mock(ConcertJpaRepository.class),
+                mock(ScheduleJpaRepository.class),
+                seatRepository,
+                new ObjectMapper(),
+                registry
+        );
+        ReflectionTestUtils.setField(service, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(service, "maxEntries", 100);
+        ReflectionTestUtils.setField(service, "maxPageSize", 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(seatRepository.findRowsByScheduleId(1L)).thenAnswer(inv -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        List<Future<CatalogQueryService.CachedBody>> results = new ArrayList<>();
+        results.add(pool.submit(() -> service.seats(1L)));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 7; i++) {
+            results.add(pool.submit(() -> service.seats(1L)));
+        }
+        release.countDown();
+
+        CatalogQueryService.CachedBody first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<CatalogQueryService.CachedBody> f : results) {
+            assertThat(f.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        verify(seatRepository, times(1)).findRowsByScheduleId(1L);
+        // 적재 중에 온 요청은 coalesced, 끝난 뒤 온 요청은 hit
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced") + count("hit")).isEqualTo(7);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        when(seatRepository.findRowsByScheduleId(1L))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.seats(1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(service.seats(1L).json()).isEqualTo("[]".getBytes());
+
+        verify(seatRepository, times(2)).findRowsByScheduleId(1L);
+    }
+
+    @Test
+    void expiredEntriesArePurgedWhenFull() throws Exception {
+        when(seatRepository.findRowsByScheduleId(anyLong())).thenReturn(List.of());
+        ReflectionTestUtils.setField(service, "ttlMs", 100L);
+        ReflectionTestUtils.setField(service, "maxEntries", 1);
+
+        service.seats(1L);
+        Thread.sleep(150);
+        service.seats(2L);   // 상한 초과 -> 만료된 1 을 치우고 2 는 캐시에 남음
+        service.seats(2L);
+
+        verify(seatRepository, times(1)).findRowsByScheduleId(2L);
+    }
+
+    @Test
+    void freshEntriesAreKeptWhenFull() {
+        when(seatRepository.findRowsByScheduleId(anyLong())).thenReturn(List.of());
+        ReflectionTestUtils.setField(service, "maxEntries", 1);
+
+        service.seats(1L);
+        service.seats(2L);   // 만료된 엔트리 없음 -> 2 는 캐시하지 않음
+        service.seats(2L);
+        service.seats(1L);
+
+        verify(seatRepository, times(1)).findRowsByScheduleId(1L);
+        verify(seatRepository, times(2)).findRowsByScheduleId(2L);
+    }
+
+    private double count(String result) {
+        return registry.get("ticketing.catalog.cache").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,120 @@
+package com.len.ticketing.application.confirm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConfirmRequestedCodecTest {
+
+    // Boot 기본 ObjectMapper 와 같은 설정 (Instant -> ISO-8601 문자열)
+    private final ConfirmRequestedCodec codec = new ConfirmRequestedCodec(
+            new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+    );
+
+    // binary 는 ms 단위로 저장 -> 비교용 시각도 ms 단위
+    private static final Instant REQUESTED_AT = Instant.ofEpochMilli(1_760_000_000_123L);
+
+    @Test
+    void jsonRoundTrip() {
+        ConfirmRequestedPayload p = payload(UUID.randomUUID().toString(), REQUESTED_AT);
+
+        byte[] json = codec.encodeJson(p).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(json[0]).isEqualTo((byte) '{');
+        assertThat(codec.decode(json)).isEqualTo(p);
+    }
+
+    @Test
+    void binaryRoundTripWithUuidEventId() {
+        ConfirmRequestedPayload p = payload(UUID.randomUUID().toString(), REQUESTED_AT);
+
+        byte[] bin = codec.encodeBinary(p);
+
+        assertThat(bin[0]).isEqualTo(ConfirmRequestedCodec.MAGIC);
+        assertThat(bin[1]).isEqualTo(ConfirmRequestedCodec.VERSION);
+        assertThat(bin).hasSize(3 + 16 + 8 + 8 + 8 + 1 + "A-17".length());
+        assertThat(codec.decode(bin)).isEqualTo(p);
+    }
+
+    @Test
+    void binaryRoundTripWithNonUuidEventId() {
+        // UUID 가 아니거나 정규 표기(소문자)가 아니면 문자열 그대로 -> decode 결과가 원래 값과 같아야 함
+        ConfirmRequestedPayload plain = payload("evt-42", REQUESTED_AT);
+        ConfirmRequestedPayload upper = payload(UUID.randomUUID().toString().toUpperCase(), REQUESTED_AT);
+
+        assertThat(codec.decode(codec.encodeBinary(plain))).isEqualTo(plain);
+        assertThat(codec.decode(codec.encodeBinary(upper))).isEqualTo(upper);
+    }
+
+    @Test
+    void binaryRoundTripWithNullRequestedAt() {
+        ConfirmRequestedPayload p = payload(UUID.randomUUID().toString(), null);
+
+        ConfirmRequestedPayload decoded = codec.decode(codec.encodeBinary(p));
+
+        assertThat(decoded.requestedAt()).isNull();
+        assertThat(decoded).isEqualTo(p);
+    }
+
+    @Test
+    void v1DecoderReadsNewerVersionAndIgnoresTrailingFields() {
+        ConfirmRequestedPayload p = payload(UUID.randomUUID().toString(), REQUESTED_AT);
+        byte[] v1 = codec.encodeBinary(p);
+
+        // v2 producer = v1 필드 + 뒤에 새 필드
+        byte[] v2 = Arrays.copyOf(v1, v1.length + 9);
+        v2[1] = 2;
+        v2[v1.length] = 7;
+
+        assertThat(codec.decode(v2)).isEqualTo(p);
+    }
+
+    @Test
+    void versionByteIsUnsigned() {
+        ConfirmRequestedPayload p = payload(UUID.randomUUID().toString(), REQUESTED_AT);
+        byte[] bin = codec.encodeBinary(p);
+
+        // 128 이상은 signed byte 로 읽으면 음수 -> 모르는 version 으로 거절되면 안 됨
+        bin[1] = (byte) 200;
+
+        assertThat(codec.decode(bin)).isEqualTo(p);
+    }
+
+    @Test
+    void rejectsTruncatedBinary() {
+        byte[] bin = codec.encodeBinary(payload(UUID.randomUUID().toString(), REQUESTED_AT));
+
+        // 어느 필드 중간에서 잘려도 IllegalArgumentException (BufferUnderflow 가 새지 않음)
+        for (int len = 1; len < bin.length; len++) {
+            byte[] truncated = Arrays.copyOf(bin, len);
+            assertThatThrownBy(() -> codec.decode(truncated))
+                    .as("length %d", len)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectsEmptyAndInvalidPayloads() {
+        assertThatThrownBy(() -> codec.decode(new byte[0])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode("{not json".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[]{ConfirmRequestedCodec.MAGIC, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ConfirmRequestedPayload payload(String eventId, Instant requestedAt) {
+        return new ConfirmRequestedPayload(eventId, 1_234L, "A-17", 987_654L, requestedAt);
+    }
+}
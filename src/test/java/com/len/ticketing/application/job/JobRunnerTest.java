@@ -0,0 +1,111 @@
+package com.len.ticketing.application.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobRunnerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("ticketing.jobs.coalesce-job.overrun-policy", "coalesce");
+    private final JobRunner runner = new JobRunner(registry, environment);
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    void skipDropsTicksWhileRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        Runnable body = () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+        };
+
+        runner.run("skip-job", body);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        runner.run("skip-job", body);
+        runner.run("skip-job", body);
+        release.countDown();
+        runner.shutdown(); // 실행 중인 run 이 끝날 때까지 대기
+
+        assertThat(runs).hasValue(1);
+        assertThat(overruns("skip-job", "skip")).isEqualTo(2);
+    }
+
+    @Test
+    void coalesceRunsOnceMoreForAllMissedTicks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch secondRun = new CountDownLatch(2);
+        AtomicInteger runs = new AtomicInteger();
+        Runnable body = () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            secondRun.countDown();
+            await(release);
+        };
+
+        runner.run("coalesce-job", body);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        runner.run("coalesce-job", body);
+        runner.run("coalesce-job", body);
+        runner.run("coalesce-job", body);
+        release.countDown();
+
+        assertThat(secondRun.await(5, TimeUnit.SECONDS)).isTrue();
+        runner.shutdown();
+
+        assertThat(runs).hasValue(2);
+        assertThat(overruns("coalesce-job", "coalesce")).isEqualTo(3);
+    }
+
+    @Test
+    void lagIsMeasuredFromFirstMissedTick() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch secondRun = new CountDownLatch(2);
+        Runnable body = () -> {
+            started.countDown();
+            secondRun.countDown();
+            await(release);
+        };
+
+        runner.run("coalesce-job", body);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        runner.run("coalesce-job", body);   // 밀린 tick
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(secondRun.await(5, TimeUnit.SECONDS)).isTrue();
+        runner.shutdown();
+
+        // 두 번째 run 은 밀린 tick 시점부터 최소 200ms 늦게 시작
+        assertThat(registry.get("ticketing.job.lag").tag("job", "coalesce-job").timer().max(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(200);
+    }
+
+    private double overruns(String job, String policy) {
+        return registry.get("ticketing.job.overrun").tag("job", job).tag("policy", policy).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.len.ticketing.application.seat;
+
+import com.len.ticketing.api.seat.dto.SeatStatusResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatMapTest {
+
+    private static final List<SeatStatusResponse> SEATS = List.of(
+            new SeatStatusResponse(1L, "A-1", 10000, false),
+            new SeatStatusResponse(2L, "A-2", 10000, false),
+            new SeatStatusResponse(3L, "A-3", 20000, true)
+    );
+
+    @Test
+    void returnsOnlySeatsChangedAfterVersion() {
+        SeatMap map = new SeatMap(SEATS, 10, 16);
+        map.apply(11, "A-1", true);
+        map.apply(12, "A-3", false);
+
+        assertThat(map.version()).isEqualTo(12);
+        assertThat(map.changedSince(10)).containsExactly(
+                new SeatStatusResponse(1L, "A-1", 10000, true),
+                new SeatStatusResponse(3L, "A-3", 20000, false)
+        );
+        assertThat(map.changedSince(11)).containsExactly(new SeatStatusResponse(3L, "A-3", 20000, false));
+        assertThat(map.changedSince(12)).isEmpty();
+    }
+
+    @Test
+    void reportsSeatChangedTwiceOnceWithCurrentState() {
+        SeatMap map = new SeatMap(SEATS, 10, 16);
+        map.apply(11, "A-1", true);
+        map.apply(12, "A-1", false);
+
+        assertThat(map.changedSince(10)).containsExactly(new SeatStatusResponse(1L, "A-1", 10000, false));
+    }
+
+    @Test
+    void noOpEventAdvancesVersionWithoutDelta() {
+        SeatMap map = new SeatMap(SEATS, 10, 16);
+        map.apply(11, "A-3", true);       // 이미 점유
+        map.apply(12, "Z-9", true);       // 없는 좌석
+
+        assertThat(map.version()).isEqualTo(12);
+        assertThat(map.changedSince(10)).isEmpty();
+    }
+
+    @Test
+    void returnsNullOutsideChangeLog() {
+        SeatMap map = new SeatMap(SEATS, 10, 2);
+
+        assertThat(map.changedSince(9)).isNull();   // 스냅샷 적재 이전
+        assertThat(map.changedSince(11)).isNull();  // 아직 모르는 버전
+
+        map.apply(11, "A-1", true);
+        map.apply(12, "A-2", true);
+        map.apply(13, "A-3", false);      // log 2칸 -> 11 이 밀려남
+
+        assertThat(map.changedSince(10)).isNull();
+        assertThat(map.changedSince(12)).containsExactly(new SeatStatusResponse(3L, "A-3", 20000, false));
+    }
+
+    @Test
+    void driftOnReloadInvalidatesChangeLog() {
+        SeatMap previous = new SeatMap(SEATS, 10, 16);
+        previous.apply(11, "A-1", true);
+
+        // DB 재적재 결과가 이벤트로 설명되지 않음 (A-2 도 점유)
+        SeatMap reloaded = new SeatMap(List.of(
+                new SeatStatusResponse(1L, "A-1", 10000, true),
+                new SeatStatusResponse(2L, "A-2", 10000, true),
+                new SeatStatusResponse(3L, "A-3", 20000, true)
+        ), 11, 16);
+        reloaded.inherit(previous);
+
+        assertThat(reloaded.generation()).isEqualTo(previous.generation() + 1);
+        assertThat(reloaded.changedSince(10)).isNull();
+        assertThat(reloaded.changedSince(11)).isNull();
+    }
+}
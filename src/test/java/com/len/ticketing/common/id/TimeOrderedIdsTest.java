@@ -0,0 +1,73 @@
+package com.len.ticketing.common.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdsTest {
+
+    private static final long EPOCH_MS = 1704067200000L;
+
+    @AfterEach
+    void resetNode() {
+        TimeOrderedIds.configureNode(0);
+    }
+
+    @Test
+    void longLayoutIsTimestampNodeSequence() {
+        TimeOrderedIds.configureNode(21);
+
+        long before = System.currentTimeMillis();
+        long id = TimeOrderedIds.nextLong();
+        long after = System.currentTimeMillis();
+
+        // 41bit ms | 5bit node | 7bit seq
+        assertThat(id).isPositive().isLessThan(1L << 53);
+        assertThat((id >>> 7) & 0x1F).isEqualTo(21);
+        assertThat((id >>> 12) + EPOCH_MS).isBetween(before, after);
+    }
+
+    @Test
+    void longIdsAreStrictlyIncreasingAcrossSequenceRollover() {
+        // 7bit seq -> 같은 ms 에 128개 넘게 뽑으면 다음 ms 로 넘어가야 함
+        long prev = TimeOrderedIds.nextLong();
+        for (int i = 0; i < 10_000; i++) {
+            long next = TimeOrderedIds.nextLong();
+            assertThat(next).isGreaterThan(prev);
+            prev = next;
+        }
+    }
+
+    @Test
+    void uuidIsVersion7WithTimestampPrefix() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UUID.fromString(TimeOrderedIds.nextUuid());
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // 같은 ms 에 12bit seq 를 다 쓰면 논리 시각이 앞서갈 수 있음 -> 하한만 확인
+        assertThat(uuid.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void uuidsAreStrictlyIncreasingInStringOrder() {
+        String prev = TimeOrderedIds.nextUuid();
+        for (int i = 0; i < 10_000; i++) {
+            String next = TimeOrderedIds.nextUuid();
+            // 소문자 hex 고정 길이 -> 문자열 순서 = 시간 순서 (DB 인덱스 append)
+            assertThat(next).isGreaterThan(prev);
+            prev = next;
+        }
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> TimeOrderedIds.configureNode(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeOrderedIds.configureNode(TimeOrderedIds.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.len.ticketing.infra.redis;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSeatLockStoreTest {
+
+    @Container
+    static final GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    private final RedisSeatLockStore store = new RedisSeatLockStore(redis);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void lockIsExclusiveAndReleasedOnlyByOwner() {
+        assertThat(store.lockSeat(1L, "A-1", 10L, 300)).isTrue();
+        assertThat(store.lockSeat(1L, "A-1", 11L, 300)).isFalse();
+        assertThat(store.getLockOwner(1L, "A-1")).isEqualTo(10L);
+        assertThat(redis.getExpire(RedisSeatLockStore.lockKey(1L, "A-1"))).isBetween(1L, 300L);
+
+        assertThat(store.releaseSeat(1L, "A-1", 11L)).isFalse();
+        assertThat(store.releaseSeat(1L, "A-1", 10L)).isTrue();
+        assertThat(store.getLockOwner(1L, "A-1")).isNull();
+    }
+
+    @Test
+    void offerReservesSeatForOfferedUserOnly() {
+        String offerKey = RedisSeatLockStore.offerKey(1L, "A-1");
+        redis.opsForValue().set(offerKey, "20");
+
+        // offer 가 걸린 좌석은 다른 사용자가 먼저 새로고침해도 못 잡음
+        assertThat(store.lockSeat(1L, "A-1", 21L, 300)).isFalse();
+        assertThat(store.getLockOwner(1L, "A-1")).isNull();
+
+        // offer 받은 본인이 잡으면 offer 는 소비됨
+        assertThat(store.lockSeat(1L, "A-1", 20L, 300)).isTrue();
+        assertThat(store.getLockOwner(1L, "A-1")).isEqualTo(20L);
+        assertThat(redis.hasKey(offerKey)).isFalse();
+    }
+
+    @Test
+    void offerIsKeptWhenOfferedUserLosesToExistingLock() {
+        String offerKey = RedisSeatLockStore.offerKey(1L, "A-1");
+        assertThat(store.lockSeat(1L, "A-1", 10L, 300)).isTrue();
+        redis.opsForValue().set(offerKey, "20");
+
+        assertThat(store.lockSeat(1L, "A-1", 20L, 300)).isFalse();
+        assertThat(redis.opsForValue().get(offerKey)).isEqualTo("20");
+    }
+}
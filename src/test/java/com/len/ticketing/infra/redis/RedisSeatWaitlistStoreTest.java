@@ -0,0 +1,105 @@
+package com.len.ticketing.infra.redis;
+
+import com.len.ticketing.domain.ticket.SeatKey;
+import com.len.ticketing.domain.ticket.SeatWaitlistStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSeatWaitlistStoreTest {
+
+    @Container
+    static final GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    private final RedisSeatWaitlistStore waitlist = new RedisSeatWaitlistStore(redis);
+    private final RedisSeatLockStore locks = new RedisSeatLockStore(redis);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void joinRequiresHeldSeat() {
+        // 비어 있는 좌석은 대기 없이 바로 hold 해야 함
+        assertThat(waitlist.join(1L, "A-1", 20L, 10, 600)).isEqualTo(SeatWaitlistStore.JOIN_SEAT_NOT_HELD);
+        assertThat(redis.hasKey("seat:wait:1:A-1")).isFalse();
+    }
+
+    @Test
+    void joinKeepsArrivalOrderAndCapacity() {
+        locks.lockSeat(1L, "A-1", 10L, 300);
+
+        assertThat(waitlist.join(1L, "A-1", 20L, 2, 600)).isEqualTo(0);
+        assertThat(waitlist.join(1L, "A-1", 21L, 2, 600)).isEqualTo(1);
+        assertThat(waitlist.join(1L, "A-1", 20L, 2, 600)).isEqualTo(0);   // 재등록 -> 기존 순번
+        assertThat(waitlist.join(1L, "A-1", 22L, 2, 600)).isEqualTo(SeatWaitlistStore.JOIN_FULL);
+    }
+
+    @Test
+    void offerGoesToHeadOnlyAfterSeatIsFree() {
+        locks.lockSeat(1L, "A-1", 10L, 300);
+        waitlist.join(1L, "A-1", 20L, 10, 600);
+        waitlist.join(1L, "A-1", 21L, 10, 600);
+
+        // 락이 살아 있으면 offer 안 함
+        assertThat(waitlist.offerNext(1L, "A-1", 30_000, 1_000L)).isNull();
+
+        locks.releaseSeat(1L, "A-1", 10L);
+        assertThat(waitlist.offerNext(1L, "A-1", 30_000, 1_000L)).isEqualTo(20L);
+        assertThat(waitlist.hasOffer(1L, "A-1", 20L)).isTrue();
+        assertThat(waitlist.hasOffer(1L, "A-1", 21L)).isFalse();
+
+        // offer 진행 중 -> 다음 대기자에게 중복 offer 안 함, 대신 offer 만 있어도 대기 등록은 가능
+        assertThat(waitlist.offerNext(1L, "A-1", 30_000, 1_000L)).isNull();
+        assertThat(waitlist.join(1L, "A-1", 22L, 10, 600)).isEqualTo(1);
+
+        // offer 받은 사용자가 좌석을 잡으면 offer 소비
+        assertThat(locks.lockSeat(1L, "A-1", 21L, 300)).isFalse();
+        assertThat(locks.lockSeat(1L, "A-1", 20L, 300)).isTrue();
+        assertThat(waitlist.hasOffer(1L, "A-1", 20L)).isFalse();
+    }
+
+    @Test
+    void lapsedOfferIsPolledOnceAfterGrace() {
+        locks.lockSeat(1L, "A-1", 10L, 300);
+        waitlist.join(1L, "A-1", 20L, 10, 600);
+        locks.releaseSeat(1L, "A-1", 10L);
+        waitlist.offerNext(1L, "A-1", 100, 1_000L);
+
+        // 기한 = now + offerTtl + grace(1000)
+        assertThat(waitlist.pollLapsedOffers(2_099L, 10)).isEmpty();
+        assertThat(waitlist.pollLapsedOffers(2_100L, 10)).containsExactly(new SeatKey(1L, "A-1"));
+        assertThat(waitlist.pollLapsedOffers(2_100L, 10)).isEmpty();
+    }
+}
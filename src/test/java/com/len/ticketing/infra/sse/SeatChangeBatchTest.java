@@ -0,0 +1,53 @@
+package com.len.ticketing.infra.sse;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatChangeBatchTest {
+
+    @Test
+    void keepsOnlyLastStatePerSeatInArrivalOrder() {
+        SeatChangeBatch batch = new SeatChangeBatch();
+        batch.add(1, event("HELD", "A-2", true));
+        batch.add(2, event("HELD", "A-1", true));
+        batch.add(3, event("CONFIRMED", "A-2", true));
+
+        assertThat(batch.changes()).containsExactly(
+                new SeatDelta("A-2", "CONFIRMED", true),
+                new SeatDelta("A-1", "HELD", true)
+        );
+    }
+
+    @Test
+    void dropsSeatsThatReturnToTheirStateBeforeTheWindow() {
+        SeatChangeBatch batch = new SeatChangeBatch();
+        // 빈 좌석 -> HELD -> RELEASED : window 밖에서 보면 변화 없음
+        batch.add(1, event("HELD", "A-1", true));
+        batch.add(2, event("RELEASED", "A-1", false));
+        // 점유 좌석 -> EXPIRED -> HELD(다른 사용자) : 점유 상태 그대로
+        batch.add(3, event("EXPIRED", "B-1", false));
+        batch.add(4, event("HELD", "B-1", true));
+        // HELD -> RELEASED -> HELD : 마지막 상태만 전송
+        batch.add(5, event("HELD", "C-1", true));
+        batch.add(6, event("RELEASED", "C-1", false));
+        batch.add(7, event("HELD", "C-1", true));
+
+        assertThat(batch.changes()).containsExactly(new SeatDelta("C-1", "HELD", true));
+    }
+
+    @Test
+    void tracksHighestSeq() {
+        SeatChangeBatch batch = new SeatChangeBatch();
+        batch.add(5, event("HELD", "A-1", true));
+        batch.add(3, event("HELD", "A-2", true));
+
+        assertThat(batch.lastSeq()).isEqualTo(5);
+    }
+
+    private static SeatChangedEvent event(String type, String seatNo, boolean reserved) {
+        return new SeatChangedEvent(type, 1L, seatNo, reserved, 7L, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,75 @@
+package com.len.ticketing.infra.sse;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatEventRingTest {
+
+    @Test
+    void replaysEventsAfterLastEventId() {
+        SeatEventRing ring = ring(8, 1, 5);
+
+        assertThat(ring.lastSeq()).isEqualTo(5);
+        assertThat(ring.since(2)).extracting(SeatChangedEvent::seatNo).containsExactly("S3", "S4", "S5");
+        assertThat(ring.since(5)).isEmpty();
+    }
+
+    @Test
+    void returnsNullWhenLastEventIdIsOutsideBuffer() {
+        // capacity 3 -> seq 3..5 만 남음
+        SeatEventRing ring = ring(3, 1, 5);
+
+        assertThat(ring.since(1)).isNull();                  // seq 2 가 밀려남
+        assertThat(ring.since(2)).extracting(SeatChangedEvent::seatNo).containsExactly("S3", "S4", "S5");
+        assertThat(ring.since(6)).isNull();                  // 이 노드가 모르는 미래 seq
+    }
+
+    @Test
+    void dropsLateAndDuplicateEvents() {
+        SeatEventRing ring = ring(8, 1, 5);
+
+        assertThat(ring.add(3, event("LATE"))).isFalse();
+        assertThat(ring.add(5, event("DUP"))).isFalse();
+
+        assertThat(ring.lastSeq()).isEqualTo(5);
+        assertThat(ring.since(2)).extracting(SeatChangedEvent::seatNo).containsExactly("S3", "S4", "S5");
+    }
+
+    @Test
+    void resetsWhenCounterRestarts() {
+        SeatEventRing ring = ring(8, 1, 5);
+
+        assertThat(ring.add(1, event("R1"))).isTrue();
+
+        assertThat(ring.lastSeq()).isEqualTo(1);
+        assertThat(ring.since(0)).extracting(SeatChangedEvent::seatNo).containsExactly("R1");
+    }
+
+    @Test
+    void resetsWhenSeqJumpsBackFurtherThanCapacity() {
+        SeatEventRing ring = ring(4, 100, 103);
+
+        // 4 이상 뒤로 -> 늦은 이벤트가 아니라 카운터 초기화로 봄
+        assertThat(ring.add(50, event("R50"))).isTrue();
+        assertThat(ring.lastSeq()).isEqualTo(50);
+        assertThat(ring.since(49)).extracting(SeatChangedEvent::seatNo).containsExactly("R50");
+
+        // buffer 크기 안쪽으로 뒤로 간 건 늦은 이벤트
+        assertThat(ring.add(48, event("LATE"))).isFalse();
+    }
+
+    private static SeatEventRing ring(int capacity, long fromSeq, long toSeq) {
+        SeatEventRing ring = new SeatEventRing(capacity);
+        for (long seq = fromSeq; seq <= toSeq; seq++) {
+            assertThat(ring.add(seq, event("S" + seq))).isTrue();
+        }
+        return ring;
+    }
+
+    private static SeatChangedEvent event(String seatNo) {
+        return new SeatChangedEvent("HELD", 1L, seatNo, true, 7L, LocalDateTime.now());
+    }
+}